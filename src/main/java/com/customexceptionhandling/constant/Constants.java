@@ -1,13 +1,14 @@
 package com.customexceptionhandling.constant;
 
-import com.customexceptionhandling.model.ProjectDto;
-
-import java.util.Date;
-
 public final class Constants {
     // Project Statuses
     public static final String SUCCESS = "Success";
 
+    // Search
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final int MIN_SEARCH_PREFIX_LENGTH = 3;
+
     // Rest Error Messages
     public static final String REST_BAD_REQUEST = "400: Bad Request";
     public static final String REST_UNAUTHORIZED = "401: Unauthorized";
@@ -28,14 +29,25 @@ public final class Constants {
     public static final String PROJECT_ALREADY_EXISTS = "The project already exists.";
     public static final String DONT_DIVIDE_BY_ZERO = "Don't divide by zero.";
     public static final String FILE_DOES_NOT_EXIST = "File does not exist.";
+    public static final String SEARCH_QUERY_REQUIRED = "A search query must be sent in the q parameter.";
+    public static final String INVALID_SEARCH_LIMIT = "The search limit must be between 1 and " + MAX_SEARCH_LIMIT + ".";
+    public static final String SEARCH_PREFIX_TOO_SHORT = "Prefix search terms must have at least " + MIN_SEARCH_PREFIX_LENGTH + " characters before the '*'.";
+
+    public static String projectFieldTooLargeMessage(int maxBytes) {
+        return "Each project text field must be at most " + maxBytes + " bytes of UTF-8.";
+    }
+
+    public static String projectVersionConflictMessage(Long currentVersion) {
+        return "The project was modified by another request. Current version: " + currentVersion + ".";
+    }
 
     // Detailed bad request error messages
     public static final String PROJECT_MUST_HAVE_NAME = "The project must have a name. ";
     public static final String PROJECT_MUST_HAVE_DESCRIPTION = "The project must have a description. ";
     public static final String PROJECT_MUST_HAVE_START_DATE = "The project must have a start date. ";
+    public static final String PROJECT_MUST_HAVE_VERSION = "The project must have a version. ";
 
-    // Log Messages
-    public static String saveOrUpdateProjectMessage(ProjectDto project) {
-        return "\nTime: " + new Date().toString() + ", \nSaved/Updated Project: " + project.toString();
-    }
+    // Log Events
+    public static final String PROJECT_SAVED_OR_UPDATED_EVENT = "project.savedOrUpdated";
+    public static final int MAX_LOGGED_DESCRIPTION_LENGTH = 256;
 }
@@ -1,11 +1,15 @@
 package com.customexceptionhandling.controller;
 
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.model.ProjectDto;
 import com.customexceptionhandling.service.impl.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/project")
 @CrossOrigin
@@ -18,6 +22,49 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @GetMapping(value = "/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ProjectDto> getProject(@PathVariable String id) {
+        ProjectDto project = projectService.getProject(id);
+
+        return new ResponseEntity<>(project, HttpStatus.OK);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseEntity<ProjectDto> createProject(@RequestBody ProjectDto project) {
+        ProjectDto created = projectService.createProject(project);
+
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    @PutMapping(value = "/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<ProjectDto> updateProject(@PathVariable String id, @RequestBody ProjectDto project) {
+        ProjectDto updated = projectService.updateProject(id, project);
+
+        return new ResponseEntity<>(updated, HttpStatus.OK);
+    }
+
+    @DeleteMapping(value = "/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public ResponseEntity<Void> deleteProject(@PathVariable String id) {
+        projectService.deleteProject(id);
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @GetMapping(value = "/search")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<List<ProjectDto>> searchProjects(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", defaultValue = "" + Constants.DEFAULT_SEARCH_LIMIT) int limit
+    ) {
+        List<ProjectDto> projects = projectService.searchProjects(query, limit);
+
+        return new ResponseEntity<>(projects, HttpStatus.OK);
+    }
+
     @GetMapping(value = "/success")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<String> success() {
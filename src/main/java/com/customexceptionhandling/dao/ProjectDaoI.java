@@ -1,5 +1,15 @@
 package com.customexceptionhandling.dao;
 
+import com.customexceptionhandling.model.ProjectDto;
+
+import java.util.List;
+import java.util.UUID;
+
 public interface ProjectDaoI {
     String getProject(Boolean goodData);
+    ProjectDto getProjectById(UUID id);
+    ProjectDto saveProject(ProjectDto project);
+    ProjectDto updateProject(ProjectDto project);
+    void deleteProject(UUID id);
+    List<ProjectDto> searchProjects(String query, int limit);
 }
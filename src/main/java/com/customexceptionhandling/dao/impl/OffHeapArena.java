@@ -0,0 +1,100 @@
+package com.customexceptionhandling.dao.impl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only memory made of fixed-size direct ByteBuffer segments. Addresses are longs that encode
+ * the segment index and the position inside it. An allocation never spans two segments.
+ * Space is never reused in place; callers report dead allocations through {@link #free(int)} and
+ * copy the live ones into a fresh arena once enough has been freed. Not thread-safe; callers guard
+ * writes.
+ */
+final class OffHeapArena {
+    private final int segmentSize;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private int position;
+    private long allocatedBytes;
+    private long freedBytes;
+
+    OffHeapArena(int segmentSize) {
+        this.segmentSize = segmentSize;
+        this.position = segmentSize;
+    }
+
+    long allocate(int size) {
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Allocation of " + size + " bytes exceeds the segment size of " + segmentSize);
+        }
+
+        if (position + size > segmentSize) {
+            segments.add(ByteBuffer.allocateDirect(segmentSize));
+            position = 0;
+        }
+
+        long address = (long) (segments.size() - 1) * segmentSize + position;
+        position += size;
+        allocatedBytes += size;
+
+        return address;
+    }
+
+    long append(byte[] bytes) {
+        long address = allocate(bytes.length);
+        ByteBuffer target = segment(address).duplicate();
+        target.position(offset(address));
+        target.put(bytes);
+
+        return address;
+    }
+
+    byte[] read(long address, int length) {
+        ByteBuffer source = segment(address).duplicate();
+        source.position(offset(address));
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+
+        return bytes;
+    }
+
+    long getLong(long address) {
+        return segment(address).getLong(offset(address));
+    }
+
+    int getInt(long address) {
+        return segment(address).getInt(offset(address));
+    }
+
+    void putLong(long address, long value) {
+        segment(address).putLong(offset(address), value);
+    }
+
+    void putInt(long address, int value) {
+        segment(address).putInt(offset(address), value);
+    }
+
+    void free(int size) {
+        freedBytes += size;
+    }
+
+    long freedBytes() {
+        return freedBytes;
+    }
+
+    long liveBytes() {
+        return allocatedBytes - freedBytes;
+    }
+
+    long reservedBytes() {
+        return (long) segments.size() * segmentSize;
+    }
+
+    private ByteBuffer segment(long address) {
+        return segments.get((int) (address / segmentSize));
+    }
+
+    private int offset(long address) {
+        return (int) (address % segmentSize);
+    }
+}
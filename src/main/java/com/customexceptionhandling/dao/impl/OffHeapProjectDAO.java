@@ -0,0 +1,138 @@
+package com.customexceptionhandling.dao.impl;
+
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.dao.ProjectDaoI;
+import com.customexceptionhandling.error.restCustomExceptions.BadRequestException;
+import com.customexceptionhandling.error.restCustomExceptions.ConflictException;
+import com.customexceptionhandling.error.restCustomExceptions.NotFoundException;
+import com.customexceptionhandling.logging.ProjectEventLogger;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.search.ProjectSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ProjectDaoI backed by an {@link OffHeapProjectStore}. Enabled with project.store=off-heap.
+ */
+@Service
+@ConditionalOnProperty(name = "project.store", havingValue = "off-heap")
+public class OffHeapProjectDAO implements ProjectDaoI {
+    private final OffHeapProjectStore projects;
+    private final ProjectEventLogger projectEventLogger;
+    private final ProjectSearchIndex projectSearchIndex;
+
+    @Autowired
+    public OffHeapProjectDAO(ProjectEventLogger projectEventLogger, ProjectSearchIndex projectSearchIndex) {
+        this(new OffHeapProjectStore(), projectEventLogger, projectSearchIndex);
+    }
+
+    public OffHeapProjectDAO(OffHeapProjectStore projects, ProjectEventLogger projectEventLogger, ProjectSearchIndex projectSearchIndex) {
+        this.projects = projects;
+        this.projectEventLogger = projectEventLogger;
+        this.projectSearchIndex = projectSearchIndex;
+    }
+
+    @PostConstruct
+    public void rebuildSearchIndex() {
+        projectSearchIndex.rebuild(projects);
+    }
+
+    public String getProject(Boolean goodData) {
+        if (!goodData) {
+            throw new BadRequestException(Constants.REST_BAD_REQUEST, null);
+        }
+
+        return Constants.SUCCESS;
+    }
+
+    public ProjectDto getProjectById(UUID id) {
+        ProjectDto project = projects.get(id);
+
+        if (project == null) {
+            throw new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+        }
+
+        return project;
+    }
+
+    public ProjectDto saveProject(ProjectDto project) {
+        requireFits(project);
+
+        ProjectDto saved = ProjectDAO.copyOf(project);
+        saved.setId(project.getId() == null ? UUID.randomUUID() : project.getId());
+        saved.setVersion(0L);
+
+        if (!projects.putIfAbsent(saved)) {
+            throw new ConflictException(Constants.PROJECT_ALREADY_EXISTS, null);
+        }
+
+        projectSearchIndex.refresh(saved.getId(), projects::get);
+        projectEventLogger.logSaveOrUpdate(saved);
+
+        return saved;
+    }
+
+    public ProjectDto updateProject(ProjectDto project) {
+        if (project.getVersion() == null) {
+            throw versionConflict(project.getId());
+        }
+
+        requireFits(project);
+
+        ProjectDto updated = ProjectDAO.copyOf(project);
+        updated.setVersion(project.getVersion() + 1);
+
+        if (!projects.replace(updated, project.getVersion())) {
+            throw versionConflict(project.getId());
+        }
+
+        projectSearchIndex.refresh(updated.getId(), projects::get);
+        projectEventLogger.logSaveOrUpdate(updated);
+
+        return updated;
+    }
+
+    public void deleteProject(UUID id) {
+        if (!projects.remove(id)) {
+            throw new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+        }
+
+        projectSearchIndex.refresh(id, projects::get);
+    }
+
+    public List<ProjectDto> searchProjects(String query, int limit) {
+        List<ProjectDto> results = new ArrayList<>();
+
+        for (UUID id : projectSearchIndex.search(query, limit)) {
+            ProjectDto project = projects.get(id);
+
+            if (project != null) {
+                results.add(project);
+            }
+        }
+
+        return results;
+    }
+
+    private void requireFits(ProjectDto project) {
+        if (!projects.fits(project)) {
+            throw new BadRequestException(Constants.projectFieldTooLargeMessage(projects.maxFieldBytes()), null);
+        }
+    }
+
+    private RuntimeException versionConflict(UUID id) {
+        long currentVersion = projects.version(id);
+
+        if (currentVersion == OffHeapProjectStore.MISSING) {
+            return new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+        }
+
+        return new ConflictException(Constants.projectVersionConflictMessage(currentVersion), null);
+    }
+}
@@ -0,0 +1,398 @@
+package com.customexceptionhandling.dao.impl;
+
+import com.customexceptionhandling.model.ProjectDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Holds projects outside the Java heap so millions of records add almost nothing to GC work.
+ *
+ * Each project is a fixed-size record in a record arena: the UUID as two longs, the version, both
+ * dates as epoch millis and an (address, length) reference for each string. String bytes are UTF-8
+ * in a shared string arena. A primitive open-addressing index maps UUIDs to record addresses.
+ * Records are only decoded into a ProjectDto when read.
+ *
+ * Both arenas are append-only. Updating a project writes a new record and re-points the index, and
+ * deleting one drops it from the index; either way the old record and its strings are counted as
+ * freed. Once an arena has freed at least one segment's worth of bytes and more than it still holds
+ * live, the live records and strings are copied into fresh arenas and the old direct buffers are
+ * left to the garbage collector. Reserved memory therefore stays within a small multiple of the
+ * live data, and each compaction is paid for by the writes that freed the space.
+ *
+ * A string never spans segments, so no single field may encode to more than the segment size.
+ * Callers check with {@link #fits(ProjectDto)}; writes that don't fit are rejected before anything
+ * is allocated.
+ */
+public final class OffHeapProjectStore implements Iterable<ProjectDto> {
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    public static final long MISSING = UuidOffsetIndex.MISSING;
+
+    private static final long NULL_DATE = Long.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private static final int ID_MSB = 0;
+    private static final int ID_LSB = 8;
+    private static final int VERSION = 16;
+    private static final int START_DATE = 24;
+    private static final int END_DATE = 32;
+    private static final int NAME = 40;
+    private static final int DESCRIPTION = NAME + 12;
+    private static final int DEPLOYED_LINK = DESCRIPTION + 12;
+    private static final int DOCUMENTATION_LINK = DEPLOYED_LINK + 12;
+    private static final int CODE_LINK = DOCUMENTATION_LINK + 12;
+    private static final int RECORD_SIZE = CODE_LINK + 12;
+
+    private static final int[] STRING_FIELDS = { NAME, DESCRIPTION, DEPLOYED_LINK, DOCUMENTATION_LINK, CODE_LINK };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int segmentSize;
+    private final UuidOffsetIndex index;
+    private OffHeapArena records;
+    private OffHeapArena strings;
+
+    public OffHeapProjectStore() {
+        this(DEFAULT_SEGMENT_SIZE, 1024);
+    }
+
+    public OffHeapProjectStore(int segmentSize, int expectedProjects) {
+        this.segmentSize = segmentSize;
+        this.records = new OffHeapArena(segmentSize);
+        this.strings = new OffHeapArena(segmentSize);
+        this.index = new UuidOffsetIndex(expectedProjects);
+    }
+
+    /**
+     * Returns the largest UTF-8 size, in bytes, of a single string field.
+     */
+    public int maxFieldBytes() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns whether every string field of the project fits in {@link #maxFieldBytes()}. Counts
+     * UTF-8 bytes without encoding the strings.
+     */
+    public boolean fits(ProjectDto project) {
+        return utf8Length(project.getName()) <= segmentSize
+                && utf8Length(project.getDescription()) <= segmentSize
+                && utf8Length(project.getDeployedLink()) <= segmentSize
+                && utf8Length(project.getDocumentationLink()) <= segmentSize
+                && utf8Length(project.getCodeLink()) <= segmentSize;
+    }
+
+    public ProjectDto get(UUID id) {
+        lock.readLock().lock();
+        try {
+            long address = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return address == MISSING ? null : decode(address);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the stored version of the project, or {@link #MISSING} if it isn't stored.
+     */
+    public long version(UUID id) {
+        lock.readLock().lock();
+        try {
+            long address = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return address == MISSING ? MISSING : records.getLong(address + VERSION);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the project unless one with the same id already exists.
+     *
+     * @throws IllegalArgumentException if a string field doesn't {@link #fits(ProjectDto) fit}
+     */
+    public boolean putIfAbsent(ProjectDto project) {
+        lock.writeLock().lock();
+        try {
+            UUID id = project.getId();
+
+            if (index.get(id.getMostSignificantBits(), id.getLeastSignificantBits()) != MISSING) {
+                return false;
+            }
+
+            index.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), encode(project));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the project only if the stored copy is at {@code expectedVersion}.
+     *
+     * @throws IllegalArgumentException if a string field doesn't {@link #fits(ProjectDto) fit}
+     */
+    public boolean replace(ProjectDto project, long expectedVersion) {
+        lock.writeLock().lock();
+        try {
+            UUID id = project.getId();
+            long address = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+
+            if (address == MISSING || records.getLong(address + VERSION) != expectedVersion) {
+                return false;
+            }
+
+            index.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), encode(project));
+            release(address);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            long address = index.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+
+            if (address == MISSING) {
+                return false;
+            }
+
+            index.remove(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            release(address);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long reservedOffHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return records.reservedBytes() + strings.reservedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Iterates a snapshot of the stored ids, decoding each project only when it is reached. Projects
+     * removed after the snapshot are skipped.
+     */
+    @Override
+    public Iterator<ProjectDto> iterator() {
+        long[] keys;
+
+        lock.readLock().lock();
+        try {
+            keys = index.keys();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new Iterator<ProjectDto>() {
+            private int next;
+            private ProjectDto pending = advance();
+
+            @Override
+            public boolean hasNext() {
+                return pending != null;
+            }
+
+            @Override
+            public ProjectDto next() {
+                if (pending == null) {
+                    throw new NoSuchElementException();
+                }
+
+                ProjectDto project = pending;
+                pending = advance();
+
+                return project;
+            }
+
+            private ProjectDto advance() {
+                while (next < keys.length) {
+                    ProjectDto project = get(new UUID(keys[next], keys[next + 1]));
+                    next += 2;
+
+                    if (project != null) {
+                        return project;
+                    }
+                }
+
+                return null;
+            }
+        };
+    }
+
+    private void release(long address) {
+        records.free(RECORD_SIZE);
+
+        for (int field : STRING_FIELDS) {
+            int length = records.getInt(address + field + 8);
+
+            if (length > 0) {
+                strings.free(length);
+            }
+        }
+
+        if (needsCompaction(records) || needsCompaction(strings)) {
+            compact();
+        }
+    }
+
+    private boolean needsCompaction(OffHeapArena arena) {
+        return arena.freedBytes() >= segmentSize && arena.freedBytes() > arena.liveBytes();
+    }
+
+    private void compact() {
+        OffHeapArena oldRecords = records;
+        OffHeapArena oldStrings = strings;
+        OffHeapArena newRecords = new OffHeapArena(segmentSize);
+        OffHeapArena newStrings = new OffHeapArena(segmentSize);
+
+        index.relocate(address -> {
+            long copy = newRecords.allocate(RECORD_SIZE);
+
+            for (int offset = ID_MSB; offset < NAME; offset += 8) {
+                newRecords.putLong(copy + offset, oldRecords.getLong(address + offset));
+            }
+
+            for (int field : STRING_FIELDS) {
+                int length = oldRecords.getInt(address + field + 8);
+                long bytes = length > 0 ? newStrings.append(oldStrings.read(oldRecords.getLong(address + field), length)) : 0L;
+
+                newRecords.putLong(copy + field, bytes);
+                newRecords.putInt(copy + field + 8, length);
+            }
+
+            return copy;
+        });
+
+        records = newRecords;
+        strings = newStrings;
+    }
+
+    private long encode(ProjectDto project) {
+        byte[] name = utf8(project.getName());
+        byte[] description = utf8(project.getDescription());
+        byte[] deployedLink = utf8(project.getDeployedLink());
+        byte[] documentationLink = utf8(project.getDocumentationLink());
+        byte[] codeLink = utf8(project.getCodeLink());
+
+        for (byte[] value : new byte[][] { name, description, deployedLink, documentationLink, codeLink }) {
+            if (value != null && value.length > segmentSize) {
+                throw new IllegalArgumentException("A string field of " + value.length + " bytes exceeds the segment size of " + segmentSize);
+            }
+        }
+
+        long address = records.allocate(RECORD_SIZE);
+
+        records.putLong(address + ID_MSB, project.getId().getMostSignificantBits());
+        records.putLong(address + ID_LSB, project.getId().getLeastSignificantBits());
+        records.putLong(address + VERSION, project.getVersion());
+        records.putLong(address + START_DATE, encodeDate(project.getStartDate()));
+        records.putLong(address + END_DATE, encodeDate(project.getEndDate()));
+        encodeString(address + NAME, name);
+        encodeString(address + DESCRIPTION, description);
+        encodeString(address + DEPLOYED_LINK, deployedLink);
+        encodeString(address + DOCUMENTATION_LINK, documentationLink);
+        encodeString(address + CODE_LINK, codeLink);
+
+        return address;
+    }
+
+    private ProjectDto decode(long address) {
+        ProjectDto project = new ProjectDto();
+
+        project.setId(new UUID(records.getLong(address + ID_MSB), records.getLong(address + ID_LSB)));
+        project.setVersion(records.getLong(address + VERSION));
+        project.setStartDate(decodeDate(records.getLong(address + START_DATE)));
+        project.setEndDate(decodeDate(records.getLong(address + END_DATE)));
+        project.setName(decodeString(address + NAME));
+        project.setDescription(decodeString(address + DESCRIPTION));
+        project.setDeployedLink(decodeString(address + DEPLOYED_LINK));
+        project.setDocumentationLink(decodeString(address + DOCUMENTATION_LINK));
+        project.setCodeLink(decodeString(address + CODE_LINK));
+
+        return project;
+    }
+
+    private void encodeString(long field, byte[] bytes) {
+        if (bytes == null) {
+            records.putLong(field, 0L);
+            records.putInt(field + 8, NULL_STRING);
+            return;
+        }
+
+        records.putLong(field, bytes.length == 0 ? 0L : strings.append(bytes));
+        records.putInt(field + 8, bytes.length);
+    }
+
+    private String decodeString(long field) {
+        int length = records.getInt(field + 8);
+
+        if (length == NULL_STRING) {
+            return null;
+        }
+
+        return length == 0 ? "" : new String(strings.read(records.getLong(field), length), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the bytes {@link String#getBytes} would produce in UTF-8, where an unpaired surrogate
+     * becomes a one-byte '?'.
+     */
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        long length = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    private static long encodeDate(Date date) {
+        return date == null ? NULL_DATE : date.getTime();
+    }
+
+    private static Date decodeDate(long millis) {
+        return millis == NULL_DATE ? null : new Date(millis);
+    }
+}
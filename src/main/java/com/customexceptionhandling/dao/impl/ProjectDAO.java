@@ -3,10 +3,38 @@ package com.customexceptionhandling.dao.impl;
 import com.customexceptionhandling.constant.Constants;
 import com.customexceptionhandling.dao.ProjectDaoI;
 import com.customexceptionhandling.error.restCustomExceptions.BadRequestException;
+import com.customexceptionhandling.error.restCustomExceptions.ConflictException;
+import com.customexceptionhandling.error.restCustomExceptions.NotFoundException;
+import com.customexceptionhandling.logging.ProjectEventLogger;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.search.ProjectSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
+@ConditionalOnProperty(name = "project.store", havingValue = "heap", matchIfMissing = true)
 public class ProjectDAO implements ProjectDaoI {
+    private final Map<UUID, ProjectDto> projects = new ConcurrentHashMap<>();
+    private final ProjectEventLogger projectEventLogger;
+    private final ProjectSearchIndex projectSearchIndex;
+
+    public ProjectDAO(ProjectEventLogger projectEventLogger, ProjectSearchIndex projectSearchIndex) {
+        this.projectEventLogger = projectEventLogger;
+        this.projectSearchIndex = projectSearchIndex;
+    }
+
+    @PostConstruct
+    public void rebuildSearchIndex() {
+        projectSearchIndex.rebuild(projects.values());
+    }
+
     public String getProject(Boolean goodData) {
         if (!goodData) {
             throw new BadRequestException(Constants.REST_BAD_REQUEST, null);
@@ -14,4 +42,103 @@ public class ProjectDAO implements ProjectDaoI {
 
         return Constants.SUCCESS;
     }
+
+    public ProjectDto getProjectById(UUID id) {
+        ProjectDto project = projects.get(id);
+
+        if (project == null) {
+            throw new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+        }
+
+        return copyOf(project);
+    }
+
+    public ProjectDto saveProject(ProjectDto project) {
+        ProjectDto saved = copyOf(project);
+        saved.setId(project.getId() == null ? UUID.randomUUID() : project.getId());
+        saved.setVersion(0L);
+
+        if (projects.putIfAbsent(saved.getId(), saved) != null) {
+            throw new ConflictException(Constants.PROJECT_ALREADY_EXISTS, null);
+        }
+
+        projectSearchIndex.refresh(saved.getId(), projects::get);
+        projectEventLogger.logSaveOrUpdate(saved);
+
+        return copyOf(saved);
+    }
+
+    /**
+     * Applies the update only if the stored version still matches the version sent by the caller
+     * (the in-memory equivalent of UPDATE ... WHERE id = ? AND version = ?). The version check and
+     * store write take no lock; a lost race surfaces as a ConflictException carrying the current
+     * version so the caller can retry. The search index refresh that follows a successful write
+     * does take the index's write lock, for O(tokens) of this project.
+     */
+    public ProjectDto updateProject(ProjectDto project) {
+        ProjectDto current = projects.get(project.getId());
+
+        if (current == null) {
+            throw new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+        }
+
+        if (!current.getVersion().equals(project.getVersion())) {
+            throw new ConflictException(Constants.projectVersionConflictMessage(current.getVersion()), null);
+        }
+
+        ProjectDto updated = copyOf(project);
+        updated.setVersion(current.getVersion() + 1);
+
+        if (!projects.replace(project.getId(), current, updated)) {
+            ProjectDto latest = projects.get(project.getId());
+
+            if (latest == null) {
+                throw new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+            }
+
+            throw new ConflictException(Constants.projectVersionConflictMessage(latest.getVersion()), null);
+        }
+
+        projectSearchIndex.refresh(updated.getId(), projects::get);
+        projectEventLogger.logSaveOrUpdate(updated);
+
+        return copyOf(updated);
+    }
+
+    public void deleteProject(UUID id) {
+        if (projects.remove(id) == null) {
+            throw new NotFoundException(Constants.PROJECT_NOT_FOUND, null);
+        }
+
+        projectSearchIndex.refresh(id, projects::get);
+    }
+
+    public List<ProjectDto> searchProjects(String query, int limit) {
+        List<ProjectDto> results = new ArrayList<>();
+
+        for (UUID id : projectSearchIndex.search(query, limit)) {
+            ProjectDto project = projects.get(id);
+
+            if (project != null) {
+                results.add(copyOf(project));
+            }
+        }
+
+        return results;
+    }
+
+    static ProjectDto copyOf(ProjectDto project) {
+        ProjectDto copy = new ProjectDto();
+        copy.setId(project.getId());
+        copy.setName(project.getName());
+        copy.setDescription(project.getDescription());
+        copy.setStartDate(project.getStartDate());
+        copy.setEndDate(project.getEndDate());
+        copy.setDeployedLink(project.getDeployedLink());
+        copy.setDocumentationLink(project.getDocumentationLink());
+        copy.setCodeLink(project.getCodeLink());
+        copy.setVersion(project.getVersion());
+
+        return copy;
+    }
 }
@@ -0,0 +1,152 @@
+package com.customexceptionhandling.dao.impl;
+
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Open-addressing hash map from a UUID (as its two longs) to a long arena address, backed by
+ * primitive arrays with linear probing. Not thread-safe; callers guard access.
+ */
+final class UuidOffsetIndex {
+    static final long MISSING = -1L;
+    private static final long EMPTY = -1L;
+    private static final long DELETED = -2L;
+
+    private long[] mostSigBits;
+    private long[] leastSigBits;
+    private long[] addresses;
+    private int size;
+    private int used;
+
+    UuidOffsetIndex(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long msb, long lsb) {
+        int mask = addresses.length - 1;
+
+        for (int slot = hash(msb, lsb) & mask; addresses[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (addresses[slot] != DELETED && mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                return addresses[slot];
+            }
+        }
+
+        return MISSING;
+    }
+
+    void put(long msb, long lsb, long address) {
+        if ((used + 1) * 2 > addresses.length) {
+            resize(size * 2 >= addresses.length / 2 ? addresses.length * 2 : addresses.length);
+        }
+
+        int mask = addresses.length - 1;
+        int firstDeleted = -1;
+        int slot = hash(msb, lsb) & mask;
+
+        for (; addresses[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (addresses[slot] == DELETED) {
+                if (firstDeleted < 0) {
+                    firstDeleted = slot;
+                }
+            } else if (mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                addresses[slot] = address;
+                return;
+            }
+        }
+
+        if (firstDeleted >= 0) {
+            slot = firstDeleted;
+        } else {
+            used++;
+        }
+
+        mostSigBits[slot] = msb;
+        leastSigBits[slot] = lsb;
+        addresses[slot] = address;
+        size++;
+    }
+
+    boolean remove(long msb, long lsb) {
+        int mask = addresses.length - 1;
+
+        for (int slot = hash(msb, lsb) & mask; addresses[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (addresses[slot] != DELETED && mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                addresses[slot] = DELETED;
+                size--;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the keys as consecutive (most, least significant bits) pairs.
+     */
+    long[] keys() {
+        long[] result = new long[size * 2];
+        int count = 0;
+
+        for (int slot = 0; slot < addresses.length; slot++) {
+            if (addresses[slot] >= 0) {
+                result[count++] = mostSigBits[slot];
+                result[count++] = leastSigBits[slot];
+            }
+        }
+
+        return result;
+    }
+
+    void relocate(LongUnaryOperator relocation) {
+        for (int slot = 0; slot < addresses.length; slot++) {
+            if (addresses[slot] >= 0) {
+                addresses[slot] = relocation.applyAsLong(addresses[slot]);
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldMsb = mostSigBits;
+        long[] oldLsb = leastSigBits;
+        long[] oldAddresses = addresses;
+
+        allocate(capacity);
+
+        for (int i = 0; i < oldAddresses.length; i++) {
+            if (oldAddresses[i] >= 0) {
+                put(oldMsb[i], oldLsb[i], oldAddresses[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSigBits = new long[capacity];
+        leastSigBits = new long[capacity];
+        addresses = new long[capacity];
+        Arrays.fill(addresses, EMPTY);
+        size = 0;
+        used = 0;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 32;
+        h *= 0xBF58476D1CE4E5B9L;
+
+        return (int) (h ^ (h >>> 29));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+}
@@ -2,6 +2,7 @@ package com.customexceptionhandling.error;
 
 import com.customexceptionhandling.constant.Constants;
 import com.customexceptionhandling.error.restCustomExceptions.*;
+import com.customexceptionhandling.jfr.ExceptionHandledEvent;
 import org.slf4j.Logger;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -31,105 +32,101 @@ public class ControllerAdviceExceptionHandler extends ResponseEntityExceptionHan
             HttpStatus status,
             WebRequest request
     ) {
-        logger.error(Constants.REST_BAD_REQUEST, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                400,
-                dateFormat.format(new Date()),
-                Constants.REST_BAD_REQUEST,
-                Constants.INVALID_JSON);
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 400, Constants.REST_BAD_REQUEST, Constants.INVALID_JSON, true);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(value = { BadRequestException.class })
     protected ResponseEntity<ErrorResponseModel> handleBadRequestException(Exception ex) {
-        logger.error(Constants.REST_BAD_REQUEST, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                400,
-                dateFormat.format(new Date()),
-                Constants.REST_BAD_REQUEST,
-                ex.getMessage());
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 400, Constants.REST_BAD_REQUEST, ex.getMessage(), true);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(value = { UnauthorizedException.class })
     protected ResponseEntity<ErrorResponseModel> handleUnauthorizedException(Exception ex) {
-        logger.error(Constants.REST_UNAUTHORIZED, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                401,
-                dateFormat.format(new Date()),
-                Constants.REST_UNAUTHORIZED,
-                ex.getMessage());
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 401, Constants.REST_UNAUTHORIZED, ex.getMessage(), true);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.UNAUTHORIZED);
     }
 
     @ExceptionHandler(value = { ForbiddenException.class })
     protected ResponseEntity<ErrorResponseModel> handleForbiddenException(Exception ex) {
-        logger.error(Constants.REST_FORBIDDEN, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                403,
-                dateFormat.format(new Date()),
-                Constants.REST_FORBIDDEN,
-                ex.getMessage());
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 403, Constants.REST_FORBIDDEN, ex.getMessage(), true);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.FORBIDDEN);
     }
 
     @ExceptionHandler(value = { NotFoundException.class })
     protected ResponseEntity<ErrorResponseModel> handleNotFoundException(Exception ex) {
-        logger.error(Constants.REST_NOT_FOUND, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                404,
-                dateFormat.format(new Date()),
-                Constants.REST_NOT_FOUND,
-                ex.getMessage());
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 404, Constants.REST_NOT_FOUND, ex.getMessage(), true);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(value = { ConflictException.class })
     protected ResponseEntity<ErrorResponseModel> handleConflictException(Exception ex) {
-        logger.error(Constants.REST_CONFLICT, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                409,
-                dateFormat.format(new Date()),
-                Constants.REST_CONFLICT,
-                ex.getMessage());
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 409, Constants.REST_CONFLICT, ex.getMessage(), true);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
     @ExceptionHandler(value = { InternalServerErrorException.class, RuntimeException.class })
     protected ResponseEntity<ErrorResponseModel> handleInternalServerError(Exception ex) {
-        logger.info(Constants.REST_INTERNAL_SERVER_ERROR, ex);
-
-        ErrorResponseModel errorDetails = new ErrorResponseModel(
-                500,
-                dateFormat.format(new Date()),
-                Constants.REST_INTERNAL_SERVER_ERROR,
-                ex.getMessage());
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 500, Constants.REST_INTERNAL_SERVER_ERROR, ex.getMessage(), false);
 
         return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @ExceptionHandler(value = { ServiceUnavailableException.class, Exception.class })
     protected ResponseEntity<ErrorResponseModel> handleServiceUnavailableError(Exception ex) {
-        logger.info(Constants.REST_SERVICE_UNAVAILABLE, ex);
+        ErrorResponseModel errorDetails = buildErrorResponse(ex, 503, Constants.REST_SERVICE_UNAVAILABLE, ex.getMessage(), false);
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Logs the exception and builds the error body, timing both into an ExceptionHandledEvent.
+     * When the event is disabled in the running JFR configuration no clock is read.
+     */
+    private ErrorResponseModel buildErrorResponse(
+            Exception ex,
+            int statusCode,
+            String restErrorMessage,
+            String detailedErrorMessage,
+            boolean logAsError
+    ) {
+        ExceptionHandledEvent event = new ExceptionHandledEvent();
+        boolean timed = event.isEnabled();
+        event.begin();
+
+        long loggingStart = timed ? System.nanoTime() : 0L;
+        if (logAsError) {
+            logger.error(restErrorMessage, ex);
+        } else {
+            logger.info(restErrorMessage, ex);
+        }
+        long responseBuildStart = timed ? System.nanoTime() : 0L;
 
         ErrorResponseModel errorDetails = new ErrorResponseModel(
-                503,
+                statusCode,
                 dateFormat.format(new Date()),
-                Constants.REST_SERVICE_UNAVAILABLE,
-                ex.getMessage());
-
-        return new ResponseEntity<>(errorDetails, HttpStatus.SERVICE_UNAVAILABLE);
+                restErrorMessage,
+                detailedErrorMessage);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.exceptionClass = ex.getClass().getName();
+            event.message = ex.getMessage();
+            event.statusCode = statusCode;
+            event.loggingNanos = responseBuildStart - loggingStart;
+            event.responseBuildNanos = System.nanoTime() - responseBuildStart;
+            event.stackTraceLogged = logAsError ? logger.isErrorEnabled() : logger.isInfoEnabled();
+            event.commit();
+        }
+
+        return errorDetails;
     }
 }
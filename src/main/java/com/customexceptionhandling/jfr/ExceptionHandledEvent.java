@@ -0,0 +1,37 @@
+package com.customexceptionhandling.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted by ControllerAdviceExceptionHandler for every exception it turns into an error response.
+ * The event duration covers logging plus building the response body.
+ */
+@Name(ExceptionHandledEvent.NAME)
+@Label("Exception Handled")
+@Description("An exception converted into an error response by the controller advice")
+@Category({ "Project Tracker", "Exceptions" })
+@StackTrace(false)
+@Threshold("0 ms")
+public class ExceptionHandledEvent extends Event {
+    public static final String NAME = "com.customexceptionhandling.ExceptionHandled";
+
+    @Label("Exception Class")
+    public String exceptionClass;
+
+    @Label("Message")
+    public String message;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Logging Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long loggingNanos;
+
+    @Label("Response Build Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long responseBuildNanos;
+
+    @Label("Stack Trace Logged")
+    public boolean stackTraceLogged;
+}
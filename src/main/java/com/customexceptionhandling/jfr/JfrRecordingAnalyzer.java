@@ -0,0 +1,90 @@
+package com.customexceptionhandling.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the exception events in a JFR recording, grouped by event type and exception class.
+ *
+ * Record with the bundled settings, then analyze:
+ * java -XX:StartFlightRecording=settings=src/main/resources/jfr/exception-handling.jfc,filename=recording.jfr -jar app.jar
+ * ./gradlew analyzeJfr -PjfrFile=recording.jfr
+ */
+public final class JfrRecordingAnalyzer {
+    private JfrRecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrRecordingAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+
+        Map<String, Summary> summaries = summarize(Paths.get(args[0]));
+
+        System.out.printf("%-60s %8s %12s %12s %12s %12s %8s%n",
+                "event / exception", "count", "avg total", "max total", "avg log", "avg build", "traces");
+
+        for (Map.Entry<String, Summary> entry : summaries.entrySet()) {
+            Summary summary = entry.getValue();
+
+            System.out.printf("%-60s %8d %10dus %10dus %10dus %10dus %8d%n",
+                    entry.getKey(),
+                    summary.count,
+                    summary.totalNanos / summary.count / 1_000,
+                    summary.maxNanos / 1_000,
+                    summary.loggingNanos / summary.count / 1_000,
+                    summary.responseBuildNanos / summary.count / 1_000,
+                    summary.stackTracesLogged);
+        }
+    }
+
+    static Map<String, Summary> summarize(Path recording) throws IOException {
+        Map<String, Summary> summaries = new TreeMap<>();
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String eventName = event.getEventType().getName();
+            boolean handled = ExceptionHandledEvent.NAME.equals(eventName);
+
+            if (!handled && !ProjectServiceExceptionEvent.NAME.equals(eventName)) {
+                continue;
+            }
+
+            String key = (handled ? "handled " : "service ") + event.getString("exceptionClass");
+            Summary summary = summaries.computeIfAbsent(key, k -> new Summary());
+            long nanos = event.getDuration().toNanos();
+
+            summary.count++;
+            summary.totalNanos += nanos;
+            summary.maxNanos = Math.max(summary.maxNanos, nanos);
+
+            if (handled) {
+                summary.loggingNanos += durationNanos(event.getDuration("loggingNanos"));
+                summary.responseBuildNanos += durationNanos(event.getDuration("responseBuildNanos"));
+                summary.stackTracesLogged += event.getBoolean("stackTraceLogged") ? 1 : 0;
+            }
+        }
+
+        return summaries;
+    }
+
+    private static long durationNanos(Duration duration) {
+        return duration == null ? 0L : duration.toNanos();
+    }
+
+    static final class Summary {
+        long count;
+        long totalNanos;
+        long maxNanos;
+        long loggingNanos;
+        long responseBuildNanos;
+        long stackTracesLogged;
+    }
+}
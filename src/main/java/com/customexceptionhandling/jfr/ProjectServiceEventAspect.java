@@ -0,0 +1,37 @@
+package com.customexceptionhandling.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a {@link ProjectServiceExceptionEvent} for every exception thrown out of ProjectService.
+ * Off unless project.jfr.service-events.enabled=true, so normal runs don't proxy the service.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "project.jfr.service-events.enabled", havingValue = "true")
+public class ProjectServiceEventAspect {
+    @Around("execution(public * com.customexceptionhandling.service.impl.ProjectService.*(..))")
+    public Object recordThrownExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
+        ProjectServiceExceptionEvent event = new ProjectServiceExceptionEvent();
+        event.begin();
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.method = joinPoint.getSignature().getName();
+                event.exceptionClass = ex.getClass().getName();
+                event.message = ex.getMessage();
+                event.commit();
+            }
+
+            throw ex;
+        }
+    }
+}
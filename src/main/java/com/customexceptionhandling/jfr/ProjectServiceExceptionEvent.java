@@ -0,0 +1,26 @@
+package com.customexceptionhandling.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted by ProjectServiceEventAspect when a ProjectService method throws. The event duration
+ * covers the whole method call up to the throw.
+ */
+@Name(ProjectServiceExceptionEvent.NAME)
+@Label("Project Service Exception")
+@Description("An exception thrown out of a ProjectService method")
+@Category({ "Project Tracker", "Exceptions" })
+@StackTrace(false)
+@Threshold("0 ms")
+public class ProjectServiceExceptionEvent extends Event {
+    public static final String NAME = "com.customexceptionhandling.ProjectServiceException";
+
+    @Label("Method")
+    public String method;
+
+    @Label("Exception Class")
+    public String exceptionClass;
+
+    @Label("Message")
+    public String message;
+}
@@ -0,0 +1,214 @@
+package com.customexceptionhandling.logging;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Writes flat JSON log events into reusable char and byte buffers. {@link JsonLoggingEventEncoder}
+ * keeps one per thread, so encoding an event allocates only the byte[] handed to the appender.
+ */
+public final class JsonLogEncoder {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
+    private final StringBuilder buffer = new StringBuilder(512);
+    private CharsetEncoder utf8;
+    private ByteBuffer bytes;
+    private boolean firstField;
+
+    public JsonLogEncoder begin(String event) {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer.setLength(0);
+            buffer.trimToSize();
+        }
+
+        buffer.setLength(0);
+        buffer.append('{');
+        firstField = true;
+
+        return field("event", event);
+    }
+
+    public JsonLogEncoder field(String name, String value) {
+        return field(name, value, Integer.MAX_VALUE);
+    }
+
+    public JsonLogEncoder field(String name, String value, int maxLength) {
+        appendName(name);
+
+        if (value == null) {
+            buffer.append("null");
+            return this;
+        }
+
+        int length = Math.min(value.length(), maxLength);
+        if (length < value.length() && length > 0 && Character.isHighSurrogate(value.charAt(length - 1))) {
+            length--;
+        }
+
+        buffer.append('"');
+        appendEscaped(value, length);
+        if (length < value.length()) {
+            buffer.append("...");
+        }
+        buffer.append('"');
+
+        if (length < value.length()) {
+            buffer.append(",\"").append(name).append("Length\":").append(value.length());
+        }
+
+        return this;
+    }
+
+    public JsonLogEncoder field(String name, long value) {
+        appendName(name);
+        buffer.append(value);
+
+        return this;
+    }
+
+    public JsonLogEncoder field(String name, Long value) {
+        appendName(name);
+
+        if (value == null) {
+            buffer.append("null");
+        } else {
+            buffer.append(value.longValue());
+        }
+
+        return this;
+    }
+
+    public JsonLogEncoder field(String name, UUID value) {
+        appendName(name);
+
+        if (value == null) {
+            buffer.append("null");
+            return this;
+        }
+
+        buffer.append('"');
+        appendHex(value.getMostSignificantBits() >>> 32, 8);
+        buffer.append('-');
+        appendHex(value.getMostSignificantBits() >>> 16, 4);
+        buffer.append('-');
+        appendHex(value.getMostSignificantBits(), 4);
+        buffer.append('-');
+        appendHex(value.getLeastSignificantBits() >>> 48, 4);
+        buffer.append('-');
+        appendHex(value.getLeastSignificantBits(), 12);
+        buffer.append('"');
+
+        return this;
+    }
+
+    public JsonLogEncoder field(String name, Date value) {
+        appendName(name);
+
+        if (value == null) {
+            buffer.append("null");
+        } else {
+            buffer.append(value.getTime());
+        }
+
+        return this;
+    }
+
+    public JsonLogEncoder end() {
+        buffer.append('}');
+
+        return this;
+    }
+
+    public JsonLogEncoder newLine() {
+        buffer.append('\n');
+
+        return this;
+    }
+
+    /**
+     * Returns the encoded event as UTF-8. The conversion goes through a reused byte buffer, so the
+     * returned array is the only allocation. The charset encoder and byte buffer are created on
+     * first use, so encoders that only ever render strings never pay for them.
+     */
+    public byte[] toUtf8Bytes() {
+        int maxBytes = buffer.length() * 3;
+
+        if (utf8 == null) {
+            utf8 = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        if (bytes == null || bytes.capacity() < maxBytes || bytes.capacity() > Math.max(maxBytes, MAX_RETAINED_CAPACITY * 3)) {
+            bytes = ByteBuffer.allocate(Math.max(maxBytes, 1024));
+        }
+
+        bytes.clear();
+        utf8.reset();
+        utf8.encode(CharBuffer.wrap(buffer), bytes, true);
+        utf8.flush(bytes);
+        bytes.flip();
+
+        byte[] encoded = new byte[bytes.remaining()];
+        bytes.get(encoded);
+
+        return encoded;
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    private void appendName(String name) {
+        if (!firstField) {
+            buffer.append(',');
+        }
+        firstField = false;
+
+        buffer.append('"').append(name).append("\":");
+    }
+
+    private void appendHex(long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            buffer.append(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+    private void appendEscaped(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"':
+                    buffer.append("\\\"");
+                    break;
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        buffer.append("\\u00");
+                        appendHex(c, 2);
+                    } else {
+                        buffer.append(c);
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.customexceptionhandling.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * Logback encoder that writes one JSON object per line. Events carrying a {@link ProjectLogEvent}
+ * marker are written field by field from the project instead of through the formatted message.
+ * Enabled by the json-logs profile in logback-spring.xml.
+ */
+public class JsonLoggingEventEncoder extends EncoderBase<ILoggingEvent> {
+    private static final String LOG_EVENT = "log";
+    private static final ThreadLocal<JsonLogEncoder> ENCODER = ThreadLocal.withInitial(JsonLogEncoder::new);
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ProjectLogEvent projectEvent = event.getMarker() instanceof ProjectLogEvent
+                ? (ProjectLogEvent) event.getMarker()
+                : null;
+        JsonLogEncoder json = ENCODER.get()
+                .begin(projectEvent == null ? LOG_EVENT : projectEvent.getEvent())
+                .field("timestamp", event.getTimeStamp())
+                .field("level", event.getLevel().toString())
+                .field("logger", event.getLoggerName())
+                .field("thread", event.getThreadName());
+
+        if (projectEvent == null) {
+            json.field("message", event.getFormattedMessage());
+        } else {
+            projectEvent.writeFields(json);
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            json.field("exceptionClass", throwable.getClassName())
+                    .field("exceptionMessage", throwable.getMessage())
+                    .field("stackTrace", ThrowableProxyUtil.asString(throwable));
+        }
+
+        return json.end().newLine().toUtf8Bytes();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+}
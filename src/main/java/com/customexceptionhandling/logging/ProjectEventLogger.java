@@ -0,0 +1,24 @@
+package com.customexceptionhandling.logging;
+
+import com.customexceptionhandling.model.ProjectDto;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+import static com.customexceptionhandling.constant.Constants.*;
+
+@Component
+public class ProjectEventLogger {
+    private final Logger logger;
+
+    public ProjectEventLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    public void logSaveOrUpdate(ProjectDto project) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        logger.info(new ProjectLogEvent(PROJECT_SAVED_OR_UPDATED_EVENT, project), PROJECT_SAVED_OR_UPDATED_EVENT);
+    }
+}
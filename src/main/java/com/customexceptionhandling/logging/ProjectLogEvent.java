@@ -0,0 +1,93 @@
+package com.customexceptionhandling.logging;
+
+import com.customexceptionhandling.model.ProjectDto;
+import org.slf4j.Marker;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import static com.customexceptionhandling.constant.Constants.MAX_LOGGED_DESCRIPTION_LENGTH;
+
+/**
+ * A project event attached to a log call as its Marker, with the event name as a constant message.
+ * Logback formats the message before any encoder runs, so keeping the project out of the message
+ * arguments means it is never rendered on that path. {@link JsonLoggingEventEncoder} writes its
+ * typed fields straight into its buffer; a text pattern that includes %marker renders it through
+ * {@link #toString()}.
+ */
+public class ProjectLogEvent implements Marker {
+    private static final ThreadLocal<JsonLogEncoder> ENCODER = ThreadLocal.withInitial(JsonLogEncoder::new);
+
+    private final String event;
+    private final transient ProjectDto project;
+
+    public ProjectLogEvent(String event, ProjectDto project) {
+        this.event = event;
+        this.project = project;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void writeFields(JsonLogEncoder encoder) {
+        encoder.field("id", project.getId())
+                .field("name", project.getName())
+                .field("description", project.getDescription(), MAX_LOGGED_DESCRIPTION_LENGTH)
+                .field("startDate", project.getStartDate())
+                .field("endDate", project.getEndDate())
+                .field("deployedLink", project.getDeployedLink())
+                .field("documentationLink", project.getDocumentationLink())
+                .field("codeLink", project.getCodeLink())
+                .field("version", project.getVersion());
+    }
+
+    @Override
+    public String getName() {
+        return event;
+    }
+
+    @Override
+    public void add(Marker reference) {
+        throw new UnsupportedOperationException("Project log events don't take references");
+    }
+
+    @Override
+    public boolean remove(Marker reference) {
+        return false;
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasChildren() {
+        return false;
+    }
+
+    @Override
+    public boolean hasReferences() {
+        return false;
+    }
+
+    @Override
+    public Iterator<Marker> iterator() {
+        return Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean contains(Marker other) {
+        return this == other;
+    }
+
+    @Override
+    public boolean contains(String name) {
+        return event.equals(name);
+    }
+
+    @Override
+    public String toString() {
+        JsonLogEncoder encoder = ENCODER.get().begin(event);
+        writeFields(encoder);
+
+        return encoder.end().toString();
+    }
+}
@@ -14,4 +14,5 @@ public class ProjectDto {
     private String deployedLink;
     private String documentationLink;
     private String codeLink;
+    private Long version;
 }
@@ -0,0 +1,170 @@
+package com.customexceptionhandling.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Sorted list of document ids backed by a primitive int array. Document ids are handed out in
+ * increasing order, so adding a document is an append.
+ */
+final class IntPostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs;
+    private int size;
+
+    IntPostingList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private IntPostingList(int capacity) {
+        this.docs = new int[Math.max(capacity, 1)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return docs[index];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] >= doc) {
+            throw new IllegalArgumentException("Document ids must be added in increasing order");
+        }
+
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+        }
+
+        docs[size++] = doc;
+    }
+
+    /**
+     * Rewrites every id through {@code newIds}, dropping ids mapped to -1. The mapping must keep
+     * the surviving ids in order.
+     */
+    void renumber(int[] newIds) {
+        int kept = 0;
+
+        for (int i = 0; i < size; i++) {
+            int doc = newIds[docs[i]];
+
+            if (doc >= 0) {
+                docs[kept++] = doc;
+            }
+        }
+
+        size = kept;
+
+        if (docs.length > INITIAL_CAPACITY && size < docs.length / 4) {
+            docs = Arrays.copyOf(docs, Math.max(size * 2, INITIAL_CAPACITY));
+        }
+    }
+
+    static IntPostingList intersect(IntPostingList a, IntPostingList b) {
+        IntPostingList result = new IntPostingList(Math.min(a.size, b.size));
+        int i = 0;
+        int j = 0;
+
+        while (i < a.size && j < b.size) {
+            int left = a.docs[i];
+            int right = b.docs[j];
+
+            if (left == right) {
+                result.docs[result.size++] = left;
+                i++;
+                j++;
+            } else if (left < right) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Merges sorted lists into one sorted list without duplicates, leaving out ids set in
+     * {@code excluded}. The lists are merged through a heap of cursors, so nothing is copied or
+     * sorted beyond the result itself.
+     */
+    static IntPostingList union(Collection<IntPostingList> lists, BitSet excluded) {
+        IntPostingList[] sources = new IntPostingList[lists.size()];
+        int[] positions = new int[sources.length];
+        int[] heap = new int[sources.length];
+        int heapSize = 0;
+        int largest = 0;
+
+        for (IntPostingList list : lists) {
+            if (!list.isEmpty()) {
+                sources[heapSize] = list;
+                heap[heapSize] = heapSize;
+                heapSize++;
+                largest = Math.max(largest, list.size);
+            }
+        }
+
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, sources, positions);
+        }
+
+        IntPostingList result = new IntPostingList(largest);
+
+        while (heapSize > 0) {
+            int source = heap[0];
+            int doc = sources[source].docs[positions[source]++];
+
+            if (positions[source] == sources[source].size) {
+                heap[0] = heap[--heapSize];
+            }
+
+            if (heapSize > 0) {
+                siftDown(heap, heapSize, 0, sources, positions);
+            }
+
+            if (!excluded.get(doc) && (result.size == 0 || result.docs[result.size - 1] != doc)) {
+                result.add(doc);
+            }
+        }
+
+        return result;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int index, IntPostingList[] sources, int[] positions) {
+        int source = heap[index];
+        int doc = head(source, sources, positions);
+
+        while (true) {
+            int child = index * 2 + 1;
+
+            if (child >= heapSize) {
+                break;
+            }
+
+            if (child + 1 < heapSize && head(heap[child + 1], sources, positions) < head(heap[child], sources, positions)) {
+                child++;
+            }
+
+            if (head(heap[child], sources, positions) >= doc) {
+                break;
+            }
+
+            heap[index] = heap[child];
+            index = child;
+        }
+
+        heap[index] = source;
+    }
+
+    private static int head(int source, IntPostingList[] sources, int[] positions) {
+        return sources[source].docs[positions[source]];
+    }
+}
@@ -0,0 +1,271 @@
+package com.customexceptionhandling.search;
+
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.model.ProjectDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory inverted index over project names and descriptions.
+ *
+ * Every indexed project gets an int document id; each token maps to a sorted posting list of those
+ * ids. Re-indexing a project retires its old document id and hands out a new, higher one, so
+ * posting lists stay append-only and higher ids are always the most recently written projects.
+ *
+ * Retiring a document only sets its bit in a bitset, so a refresh costs O(tokens of the project).
+ * Queries skip retired ids. Once retired ids outnumber live ones, the index compacts: live
+ * documents are renumbered from zero in their existing order and retired ids are dropped from every
+ * posting list. That bounds memory and doc ids by the number of live projects, and the O(index)
+ * compaction is paid for by the writes that made it necessary.
+ *
+ * Query terms are ANDed together. A term ending in '*' matches every token with that prefix; the
+ * prefix must be at least {@link Constants#MIN_SEARCH_PREFIX_LENGTH} characters so one term can't
+ * pull in most of the vocabulary. Prefix matches are merged straight from the sorted posting lists.
+ */
+@Component
+public class ProjectSearchIndex {
+    private static final char PREFIX_WILDCARD = '*';
+    private static final int INITIAL_DOC_CAPACITY = 1024;
+    private static final int MIN_RETIRED_DOCS_BEFORE_COMPACTION = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, IntPostingList> postings = new TreeMap<>();
+    private final Map<UUID, Integer> docsByProjectId = new HashMap<>();
+    private final BitSet retiredDocs = new BitSet();
+    private UUID[] projectIdsByDoc = new UUID[INITIAL_DOC_CAPACITY];
+    private int retiredDocCount;
+    private int nextDoc;
+
+    /**
+     * Brings the index in line with the current stored state of one project. The state is read
+     * from the store while the index write lock is held, so concurrent writers to the same project
+     * always leave the index matching whichever write landed last. A missing project is removed.
+     */
+    public void refresh(UUID projectId, Function<UUID, ProjectDto> store) {
+        lock.writeLock().lock();
+        try {
+            retireDoc(projectId);
+
+            ProjectDto project = store.apply(projectId);
+
+            if (project != null) {
+                addDoc(project);
+            }
+
+            if (retiredDocCount >= MIN_RETIRED_DOCS_BEFORE_COMPACTION && retiredDocCount > docsByProjectId.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the index and builds it again from the given projects, compacting document ids.
+     */
+    public void rebuild(Iterable<ProjectDto> projects) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docsByProjectId.clear();
+            retiredDocs.clear();
+            projectIdsByDoc = new UUID[INITIAL_DOC_CAPACITY];
+            retiredDocCount = 0;
+            nextDoc = 0;
+
+            for (ProjectDto project : projects) {
+                addDoc(project);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of up to {@code limit} projects matching every query term, most recently
+     * written first.
+     *
+     * @throws IllegalArgumentException if a prefix term is shorter than the minimum prefix length
+     */
+    public List<UUID> search(String query, int limit) {
+        String[] terms = tokenize(query, true);
+
+        if (hasShortPrefixTerm(terms)) {
+            throw new IllegalArgumentException("Prefix terms need at least " + Constants.MIN_SEARCH_PREFIX_LENGTH + " characters");
+        }
+
+        if (terms.length == 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            IntPostingList[] termPostings = new IntPostingList[terms.length];
+
+            for (int i = 0; i < terms.length; i++) {
+                termPostings[i] = postingsFor(terms[i]);
+
+                if (termPostings[i].isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            Arrays.sort(termPostings, Comparator.comparingInt(IntPostingList::size));
+
+            IntPostingList matches = termPostings[0];
+            for (int i = 1; i < termPostings.length && !matches.isEmpty(); i++) {
+                matches = IntPostingList.intersect(matches, termPostings[i]);
+            }
+
+            List<UUID> results = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = matches.size() - 1; i >= 0 && results.size() < limit; i--) {
+                int doc = matches.get(i);
+
+                if (!retiredDocs.get(doc)) {
+                    results.add(projectIdsByDoc[doc]);
+                }
+            }
+
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByProjectId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IntPostingList postingsFor(String term) {
+        if (term.charAt(term.length() - 1) != PREFIX_WILDCARD) {
+            IntPostingList exact = postings.get(term);
+            return exact == null ? new IntPostingList() : exact;
+        }
+
+        String prefix = term.substring(0, term.length() - 1);
+
+        return IntPostingList.union(postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values(), retiredDocs);
+    }
+
+    private void addDoc(ProjectDto project) {
+        if (nextDoc == Integer.MAX_VALUE) {
+            compact();
+        }
+
+        int doc = nextDoc++;
+
+        if (doc == projectIdsByDoc.length) {
+            projectIdsByDoc = Arrays.copyOf(projectIdsByDoc, (int) Math.min(Integer.MAX_VALUE - 8L, doc * 2L));
+        }
+
+        projectIdsByDoc[doc] = project.getId();
+        docsByProjectId.put(project.getId(), doc);
+
+        for (String token : tokenize(Objects.toString(project.getName(), "") + " " + Objects.toString(project.getDescription(), ""), false)) {
+            postings.computeIfAbsent(token, key -> new IntPostingList()).add(doc);
+        }
+    }
+
+    private void retireDoc(UUID projectId) {
+        Integer doc = docsByProjectId.remove(projectId);
+
+        if (doc == null) {
+            return;
+        }
+
+        retiredDocs.set(doc);
+        projectIdsByDoc[doc] = null;
+        retiredDocCount++;
+    }
+
+    private void compact() {
+        int[] newIds = new int[nextDoc];
+        int live = 0;
+
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (retiredDocs.get(doc)) {
+                newIds[doc] = -1;
+                continue;
+            }
+
+            newIds[doc] = live;
+            projectIdsByDoc[live] = projectIdsByDoc[doc];
+            docsByProjectId.put(projectIdsByDoc[live], live);
+            live++;
+        }
+
+        Arrays.fill(projectIdsByDoc, live, nextDoc, null);
+        if (projectIdsByDoc.length > Math.max(INITIAL_DOC_CAPACITY, live * 4)) {
+            projectIdsByDoc = Arrays.copyOf(projectIdsByDoc, Math.max(INITIAL_DOC_CAPACITY, live * 2));
+        }
+
+        postings.values().removeIf(list -> {
+            list.renumber(newIds);
+            return list.isEmpty();
+        });
+
+        retiredDocs.clear();
+        retiredDocCount = 0;
+        nextDoc = live;
+    }
+
+    /**
+     * Returns whether the query has a prefix term with fewer than
+     * {@link Constants#MIN_SEARCH_PREFIX_LENGTH} characters before its '*'.
+     */
+    public static boolean hasShortPrefixTerm(String query) {
+        return hasShortPrefixTerm(tokenize(query, true));
+    }
+
+    private static boolean hasShortPrefixTerm(String[] terms) {
+        for (String term : terms) {
+            if (term.charAt(term.length() - 1) == PREFIX_WILDCARD && term.length() - 1 < Constants.MIN_SEARCH_PREFIX_LENGTH) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Lower-cases the text and splits it on anything that isn't a letter or digit. Duplicate tokens
+     * are dropped. When {@code keepWildcards} is set, a trailing '*' stays on its token.
+     */
+    static String[] tokenize(String text, boolean keepWildcards) {
+        if (text == null) {
+            return new String[0];
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        StringBuilder token = new StringBuilder();
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+                continue;
+            }
+
+            if (keepWildcards && c == PREFIX_WILDCARD && token.length() > 0) {
+                token.append(c);
+            }
+
+            if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+
+        return tokens.toArray(new String[0]);
+    }
+}
@@ -1,6 +1,15 @@
 package com.customexceptionhandling.service;
 
+import com.customexceptionhandling.model.ProjectDto;
+
+import java.util.List;
+
 public interface ProjectServiceI {
+    ProjectDto getProject(String id);
+    ProjectDto createProject(ProjectDto project);
+    ProjectDto updateProject(String id, ProjectDto project);
+    void deleteProject(String id);
+    List<ProjectDto> searchProjects(String query, int limit);
     String succeed();
     String badRequest();
     String unauthorized();
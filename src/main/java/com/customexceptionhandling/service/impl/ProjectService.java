@@ -1,25 +1,77 @@
 package com.customexceptionhandling.service.impl;
 
-import com.customexceptionhandling.dao.impl.ProjectDAO;
+import com.customexceptionhandling.dao.ProjectDaoI;
 import com.customexceptionhandling.error.restCustomExceptions.*;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.search.ProjectSearchIndex;
 import com.customexceptionhandling.service.ProjectServiceI;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
 
 import static com.customexceptionhandling.constant.Constants.*;
 
 @Service
 public class ProjectService implements ProjectServiceI {
     @Autowired
-    private final ProjectDAO projectDAO;
+    private final ProjectDaoI projectDAO;
 
-    public ProjectService(ProjectDAO projectDAO) {
+    public ProjectService(ProjectDaoI projectDAO) {
         this.projectDAO = projectDAO;
     }
 
+    public ProjectDto getProject(String id) {
+        return this.projectDAO.getProjectById(parseId(id));
+    }
+
+    public ProjectDto createProject(ProjectDto project) {
+        validateProject(project);
+
+        return this.projectDAO.saveProject(project);
+    }
+
+    public ProjectDto updateProject(String id, ProjectDto project) {
+        UUID projectId = parseId(id);
+
+        if (project.getId() != null && !project.getId().equals(projectId)) {
+            throw new BadRequestException(INVALID_PROJECT_ID_SENT_IN_BODY, null);
+        }
+
+        validateProject(project);
+
+        if (project.getVersion() == null) {
+            throw new BadRequestException(PROJECT_MUST_HAVE_VERSION, null);
+        }
+
+        project.setId(projectId);
+
+        return this.projectDAO.updateProject(project);
+    }
+
+    public void deleteProject(String id) {
+        this.projectDAO.deleteProject(parseId(id));
+    }
+
+    public List<ProjectDto> searchProjects(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException(SEARCH_QUERY_REQUIRED, null);
+        }
+
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException(INVALID_SEARCH_LIMIT, null);
+        }
+
+        if (ProjectSearchIndex.hasShortPrefixTerm(query)) {
+            throw new BadRequestException(SEARCH_PREFIX_TOO_SHORT, null);
+        }
+
+        return this.projectDAO.searchProjects(query, limit);
+    }
+
     public String succeed() {
         return this.projectDAO.getProject(true);
     }
@@ -103,4 +155,32 @@ public class ProjectService implements ProjectServiceI {
 
         return SUCCESS;
     }
+
+    private UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(INVALID_ID_SENT_IN_PATH, ex);
+        }
+    }
+
+    private void validateProject(ProjectDto project) {
+        String badRequestMsg = "";
+
+        if (project.getName() == null || project.getName().isBlank()) {
+            badRequestMsg += PROJECT_MUST_HAVE_NAME;
+        }
+
+        if (project.getDescription() == null || project.getDescription().isBlank()) {
+            badRequestMsg += PROJECT_MUST_HAVE_DESCRIPTION;
+        }
+
+        if (project.getStartDate() == null) {
+            badRequestMsg += PROJECT_MUST_HAVE_START_DATE;
+        }
+
+        if (!badRequestMsg.isEmpty()) {
+            throw new BadRequestException(badRequestMsg, null);
+        }
+    }
 }
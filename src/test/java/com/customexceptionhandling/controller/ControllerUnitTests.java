@@ -2,13 +2,23 @@ package com.customexceptionhandling.controller;
 
 import com.customexceptionhandling.constant.Constants;
 import com.customexceptionhandling.error.restCustomExceptions.BadRequestException;
+import com.customexceptionhandling.model.ProjectDto;
 import com.customexceptionhandling.service.impl.ProjectService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 public class ControllerUnitTests {
@@ -42,4 +52,137 @@ public class ControllerUnitTests {
         assertNotNull(response);
         assertEquals(Constants.REST_BAD_REQUEST, response.getMessage());
     }
+
+    @Test
+    void getProject_validInput_200Okay() {
+        ProjectDto project = new ProjectDto();
+        String id = UUID.randomUUID().toString();
+
+        when(projectService.getProject(id)).thenReturn(project);
+
+        ResponseEntity<ProjectDto> response = projectController.getProject(id);
+
+        verify(projectService).getProject(id);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(project, response.getBody());
+    }
+
+    @Test
+    void getProject_malformedId_400BadRequest() {
+        BadRequestException ex = new BadRequestException(Constants.INVALID_ID_SENT_IN_PATH, null);
+
+        when(projectService.getProject("not-a-uuid")).thenThrow(ex);
+
+        BadRequestException response = assertThrows(BadRequestException.class, () -> projectController.getProject("not-a-uuid"));
+
+        assertEquals(Constants.INVALID_ID_SENT_IN_PATH, response.getMessage());
+    }
+
+    @Test
+    void createProject_validInput_201Created() {
+        ProjectDto project = new ProjectDto();
+
+        when(projectService.createProject(project)).thenReturn(project);
+
+        ResponseEntity<ProjectDto> response = projectController.createProject(project);
+
+        verify(projectService).createProject(project);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(project, response.getBody());
+    }
+
+    @Test
+    void createProject_invalidInput_400BadRequest() {
+        ProjectDto project = new ProjectDto();
+        BadRequestException ex = new BadRequestException(Constants.PROJECT_MUST_HAVE_NAME, null);
+
+        when(projectService.createProject(project)).thenThrow(ex);
+
+        BadRequestException response = assertThrows(BadRequestException.class, () -> projectController.createProject(project));
+
+        assertEquals(Constants.PROJECT_MUST_HAVE_NAME, response.getMessage());
+    }
+
+    @Test
+    void updateProject_validInput_200Okay() {
+        ProjectDto project = new ProjectDto();
+        String id = UUID.randomUUID().toString();
+
+        when(projectService.updateProject(id, project)).thenReturn(project);
+
+        ResponseEntity<ProjectDto> response = projectController.updateProject(id, project);
+
+        verify(projectService).updateProject(id, project);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(project, response.getBody());
+    }
+
+    @Test
+    void updateProject_missingVersion_400BadRequest() {
+        ProjectDto project = new ProjectDto();
+        String id = UUID.randomUUID().toString();
+        BadRequestException ex = new BadRequestException(Constants.PROJECT_MUST_HAVE_VERSION, null);
+
+        when(projectService.updateProject(id, project)).thenThrow(ex);
+
+        BadRequestException response = assertThrows(BadRequestException.class, () -> projectController.updateProject(id, project));
+
+        assertEquals(Constants.PROJECT_MUST_HAVE_VERSION, response.getMessage());
+    }
+
+    @Test
+    void searchProjects_validInput_200Okay() {
+        List<ProjectDto> projects = Collections.singletonList(new ProjectDto());
+
+        when(projectService.searchProjects("tracker", 5)).thenReturn(projects);
+
+        ResponseEntity<List<ProjectDto>> response = projectController.searchProjects("tracker", 5);
+
+        verify(projectService).searchProjects("tracker", 5);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(projects, response.getBody());
+    }
+
+    @Test
+    void searchProjects_noLimitParam_defaultLimitUsed() throws Exception {
+        when(projectService.searchProjects("tracker", Constants.DEFAULT_SEARCH_LIMIT)).thenReturn(Collections.emptyList());
+
+        MockMvcBuilders.standaloneSetup(projectController).build()
+                .perform(get("/project/search").param("q", "tracker"))
+                .andExpect(status().isOk());
+
+        verify(projectService).searchProjects("tracker", Constants.DEFAULT_SEARCH_LIMIT);
+    }
+
+    @Test
+    void searchProjects_blankQuery_400BadRequest() {
+        BadRequestException ex = new BadRequestException(Constants.SEARCH_QUERY_REQUIRED, null);
+
+        when(projectService.searchProjects(" ", Constants.DEFAULT_SEARCH_LIMIT)).thenThrow(ex);
+
+        BadRequestException response = assertThrows(BadRequestException.class,
+                () -> projectController.searchProjects(" ", Constants.DEFAULT_SEARCH_LIMIT));
+
+        assertEquals(Constants.SEARCH_QUERY_REQUIRED, response.getMessage());
+    }
+
+    @Test
+    void searchProjects_limitOutOfBounds_400BadRequest() {
+        BadRequestException ex = new BadRequestException(Constants.INVALID_SEARCH_LIMIT, null);
+
+        when(projectService.searchProjects("tracker", 0)).thenThrow(ex);
+        when(projectService.searchProjects("tracker", Constants.MAX_SEARCH_LIMIT + 1)).thenThrow(ex);
+
+        BadRequestException tooSmall = assertThrows(BadRequestException.class,
+                () -> projectController.searchProjects("tracker", 0));
+        BadRequestException tooLarge = assertThrows(BadRequestException.class,
+                () -> projectController.searchProjects("tracker", Constants.MAX_SEARCH_LIMIT + 1));
+
+        assertEquals(Constants.INVALID_SEARCH_LIMIT, tooSmall.getMessage());
+        assertEquals(Constants.INVALID_SEARCH_LIMIT, tooLarge.getMessage());
+    }
 }
@@ -0,0 +1,144 @@
+package com.customexceptionhandling.controller;
+
+import com.customexceptionhandling.ProjectTrackerApplication;
+import com.customexceptionhandling.model.ProjectDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application on a random port with response compression on and off, and reports bytes
+ * on the wire and server CPU time per response for representative endpoints. Requests send
+ * Accept-Encoding: gzip and the body is read undecoded. CPU is the time spent by Tomcat's request
+ * threads. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+public class ResponseCompressionBenchmark {
+    private static final int SEEDED_PROJECTS = 200;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 2_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compression_representativeEndpoints_bytesAndCpu() throws IOException {
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("success", "/project/success");
+        endpoints.put("error", "/project/" + UUID.randomUUID());
+        endpoints.put("search x20", "/project/search?q=tracker&limit=20");
+        endpoints.put("search x100", "/project/search?q=tracker&limit=100");
+
+        for (boolean compression : new boolean[] { false, true }) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ProjectTrackerApplication.class)
+                    .properties("server.port=0",
+                            "server.compression.enabled=" + compression,
+                            "logging.level.com.customexceptionhandling=WARN")
+                    .run();
+
+            try {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                seed(baseUrl);
+
+                for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+                    measure(compression, endpoint.getKey(), baseUrl + endpoint.getValue());
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private void measure(boolean compression, String label, String url) throws IOException {
+        Response response = null;
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            response = get(url);
+        }
+
+        long start = serverCpuNanos();
+        for (int i = 0; i < REQUESTS; i++) {
+            response = get(url);
+        }
+        long cpu = (serverCpuNanos() - start) / REQUESTS;
+
+        System.out.printf("compression %-5s %-12s %,8d B %-8s %,10d ns server cpu%n",
+                compression, label, response.bodyBytes, response.contentEncoding == null ? "identity" : response.contentEncoding, cpu);
+
+        assertTrue(response.bodyBytes > 0);
+    }
+
+    private static Response get(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+
+        int status = connection.getResponseCode();
+        long bodyBytes = 0;
+
+        try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            byte[] buffer = new byte[8192];
+
+            for (int read; (read = body.read(buffer)) != -1; ) {
+                bodyBytes += read;
+            }
+        }
+
+        return new Response(bodyBytes, connection.getContentEncoding());
+    }
+
+    /**
+     * Sums the CPU time of Tomcat's request threads (http-nio-*-exec-*).
+     */
+    private long serverCpuNanos() {
+        long total = 0;
+
+        for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (thread != null && thread.getThreadName().startsWith("http-nio-") && thread.getThreadName().contains("-exec-")) {
+                total += Math.max(0, threads.getThreadCpuTime(thread.getThreadId()));
+            }
+        }
+
+        return total;
+    }
+
+    private static void seed(String baseUrl) {
+        RestTemplate restTemplate = new RestTemplate();
+
+        for (int i = 0; i < SEEDED_PROJECTS; i++) {
+            ProjectDto project = new ProjectDto();
+            project.setName("Project Tracker " + i);
+            project.setDescription("Tracks projects, their links and their custom exception handling. Project " + i + ".");
+            project.setStartDate(new Date(1_600_000_000_000L + i));
+            project.setDeployedLink("https://example.com/projects/" + i);
+            project.setDocumentationLink("https://example.com/projects/" + i + "/docs");
+            project.setCodeLink("https://example.com/projects/" + i + "/code");
+
+            restTemplate.postForEntity(baseUrl + "/project", project, ProjectDto.class);
+        }
+    }
+
+    private static final class Response {
+        private final long bodyBytes;
+        private final String contentEncoding;
+
+        private Response(long bodyBytes, String contentEncoding) {
+            this.bodyBytes = bodyBytes;
+            this.contentEncoding = contentEncoding;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.customexceptionhandling.dao;
+
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.dao.impl.OffHeapProjectDAO;
+import com.customexceptionhandling.dao.impl.OffHeapProjectStore;
+import com.customexceptionhandling.error.restCustomExceptions.BadRequestException;
+import com.customexceptionhandling.error.restCustomExceptions.ConflictException;
+import com.customexceptionhandling.error.restCustomExceptions.NotFoundException;
+import com.customexceptionhandling.logging.ProjectEventLogger;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.search.ProjectSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static com.customexceptionhandling.dao.ProjectDaoUnitTests.newProject;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapProjectDaoUnitTests {
+    private final OffHeapProjectStore store = new OffHeapProjectStore(4096, 16);
+    private final OffHeapProjectDAO projectDAO = new OffHeapProjectDAO(
+            store,
+            new ProjectEventLogger(LoggerFactory.getLogger(OffHeapProjectDaoUnitTests.class)),
+            new ProjectSearchIndex());
+
+    @Test
+    void getProjectById_savedProject_allFieldsDecoded() {
+        ProjectDto project = newProject();
+        project.setName("Pr\u00f8ject Tracker");
+        project.setEndDate(new Date(1_000L));
+        project.setDeployedLink("");
+        project.setCodeLink("https://example.com/code");
+
+        ProjectDto saved = projectDAO.saveProject(project);
+
+        assertEquals(saved, projectDAO.getProjectById(saved.getId()));
+        assertNull(projectDAO.getProjectById(saved.getId()).getDocumentationLink());
+    }
+
+    @Test
+    void saveProject_manyProjects_spansSegments() {
+        List<UUID> ids = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            ProjectDto project = newProject();
+            project.setName("Project " + i);
+            ids.add(projectDAO.saveProject(project).getId());
+        }
+
+        assertEquals(1_000, store.size());
+        assertTrue(store.reservedOffHeapBytes() > 4096);
+        assertEquals("Project 999", projectDAO.getProjectById(ids.get(999)).getName());
+    }
+
+    @Test
+    void saveProject_fieldLargerThanSegment_400BadRequestAndNothingStored() {
+        ProjectDto project = newProject();
+        project.setDescription("x".repeat(5_000));
+        long reserved = store.reservedOffHeapBytes();
+
+        BadRequestException response = assertThrows(BadRequestException.class, () -> projectDAO.saveProject(project));
+
+        assertEquals(Constants.projectFieldTooLargeMessage(4096), response.getMessage());
+        assertEquals(0, store.size());
+        assertEquals(reserved, store.reservedOffHeapBytes());
+        assertThrows(IllegalArgumentException.class, () -> store.putIfAbsent(project));
+        assertEquals(reserved, store.reservedOffHeapBytes());
+    }
+
+    @Test
+    void updateProject_multiByteFieldLargerThanSegment_400BadRequestAndStoredCopyKept() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+        ProjectDto fits = newProject();
+        fits.setId(saved.getId());
+        fits.setVersion(saved.getVersion());
+        fits.setDescription("\u00f8".repeat(2_048));
+
+        ProjectDto updated = projectDAO.updateProject(fits);
+        updated.setDescription("\u00f8".repeat(2_049));
+
+        assertThrows(BadRequestException.class, () -> projectDAO.updateProject(updated));
+        assertEquals(fits.getDescription(), projectDAO.getProjectById(saved.getId()).getDescription());
+        assertEquals(1L, projectDAO.getProjectById(saved.getId()).getVersion());
+    }
+
+    @Test
+    void updateProject_staleVersion_409Conflict() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+        ProjectDto stale = projectDAO.getProjectById(saved.getId());
+
+        assertEquals(1L, projectDAO.updateProject(saved).getVersion());
+
+        ConflictException response = assertThrows(ConflictException.class, () -> projectDAO.updateProject(stale));
+
+        assertEquals(Constants.projectVersionConflictMessage(1L), response.getMessage());
+    }
+
+    @Test
+    void saveProject_callerDto_notModified() {
+        ProjectDto project = newProject();
+
+        ProjectDto saved = projectDAO.saveProject(project);
+
+        assertNotSame(project, saved);
+        assertNull(project.getId());
+        assertNull(project.getVersion());
+    }
+
+    @Test
+    void updateProject_missingVersion_409Conflict() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+        saved.setVersion(null);
+
+        ConflictException response = assertThrows(ConflictException.class, () -> projectDAO.updateProject(saved));
+
+        assertEquals(Constants.projectVersionConflictMessage(0L), response.getMessage());
+    }
+
+    @Test
+    void updateProject_manyRewrites_freedSpaceReclaimed() {
+        ProjectDto project = projectDAO.saveProject(newProject());
+
+        for (int i = 0; i < 10_000; i++) {
+            project.setDescription("Rewrite number " + i + ".");
+            project = projectDAO.updateProject(project);
+        }
+
+        assertEquals(10_000L, projectDAO.getProjectById(project.getId()).getVersion());
+        assertEquals("Rewrite number 9999.", projectDAO.getProjectById(project.getId()).getDescription());
+        assertTrue(store.reservedOffHeapBytes() <= 4 * 4096);
+    }
+
+    @Test
+    void deleteProject_savedProject_removedFromStoreAndSearch() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+
+        assertEquals(1, projectDAO.searchProjects("tracker", 10).size());
+
+        projectDAO.deleteProject(saved.getId());
+
+        assertThrows(NotFoundException.class, () -> projectDAO.getProjectById(saved.getId()));
+        assertEquals(0, projectDAO.searchProjects("tracker", 10).size());
+    }
+}
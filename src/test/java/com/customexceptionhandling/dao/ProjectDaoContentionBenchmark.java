@@ -0,0 +1,154 @@
+package com.customexceptionhandling.dao;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.customexceptionhandling.dao.impl.ProjectDAO;
+import com.customexceptionhandling.error.restCustomExceptions.ConflictException;
+import com.customexceptionhandling.logging.ProjectEventLogger;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.search.ProjectSearchIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.customexceptionhandling.dao.ProjectDaoUnitTests.awaitQuietly;
+import static com.customexceptionhandling.dao.ProjectDaoUnitTests.newProject;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares optimistic (versioned) updates against a pessimistic baseline that holds a per-project
+ * lock for a plain read-modify-write, the in-memory equivalent of SELECT ... FOR UPDATE. Both sides
+ * refresh a search index after each write so only the locking strategy differs, and event logging
+ * is switched off so console I/O doesn't dominate. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+public class ProjectDaoContentionBenchmark {
+    private static final int THREADS = 8;
+    private static final int PROJECTS = 64;
+    private static final long DURATION_MILLIS = 2_000;
+
+    @Test
+    void updateProject_contention_optimisticVsRowLocking() throws InterruptedException {
+        ProjectDAO optimistic = new ProjectDAO(new ProjectEventLogger(quietLogger()), new ProjectSearchIndex());
+        List<UUID> optimisticIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            optimisticIds.add(optimistic.saveProject(newProject()).getId());
+        }
+        AtomicInteger conflicts = new AtomicInteger();
+
+        long optimisticOps = run(optimisticIds, id -> {
+            while (true) {
+                try {
+                    optimistic.updateProject(optimistic.getProjectById(id));
+                    return;
+                } catch (ConflictException ex) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        RowLockingProjectStore locking = new RowLockingProjectStore();
+        List<UUID> lockingIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            lockingIds.add(locking.save(newProject()));
+        }
+
+        long lockingOps = run(lockingIds, locking::update);
+
+        System.out.printf("optimistic:  %,d updates/s (%,d conflicts retried)%n", optimisticOps * 1000 / DURATION_MILLIS, conflicts.get());
+        System.out.printf("row locking: %,d updates/s%n", lockingOps * 1000 / DURATION_MILLIS);
+
+        assertTrue(optimisticOps > 0 && lockingOps > 0);
+    }
+
+    private static org.slf4j.Logger quietLogger() {
+        Logger logger = new LoggerContext().getLogger("benchmark");
+        logger.setLevel(Level.WARN);
+
+        return logger;
+    }
+
+    private static long run(List<UUID> ids, UpdateOperation operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder completed = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+
+            executor.execute(() -> {
+                awaitQuietly(start);
+
+                for (int i = offset; System.nanoTime() < deadline; i++) {
+                    operation.update(ids.get(i % ids.size()));
+                    completed.increment();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(DURATION_MILLIS * 10, TimeUnit.MILLISECONDS);
+
+        return completed.sum();
+    }
+
+    private interface UpdateOperation {
+        void update(UUID id);
+    }
+
+    private static final class RowLockingProjectStore {
+        private final Map<UUID, ProjectDto> projects = new ConcurrentHashMap<>();
+        private final Map<UUID, ReentrantLock> locks = new ConcurrentHashMap<>();
+        private final ProjectSearchIndex searchIndex = new ProjectSearchIndex();
+
+        UUID save(ProjectDto project) {
+            UUID id = UUID.randomUUID();
+            project.setId(id);
+            project.setVersion(0L);
+            projects.put(id, project);
+            locks.put(id, new ReentrantLock());
+            searchIndex.refresh(id, projects::get);
+
+            return id;
+        }
+
+        void update(UUID id) {
+            ReentrantLock lock = locks.get(id);
+            lock.lock();
+            try {
+                ProjectDto updated = copyOf(projects.get(id));
+                updated.setVersion(updated.getVersion() + 1);
+                projects.put(id, updated);
+                searchIndex.refresh(id, projects::get);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static ProjectDto copyOf(ProjectDto project) {
+            ProjectDto copy = new ProjectDto();
+            copy.setId(project.getId());
+            copy.setName(project.getName());
+            copy.setDescription(project.getDescription());
+            copy.setStartDate(project.getStartDate());
+            copy.setVersion(project.getVersion());
+
+            return copy;
+        }
+    }
+}
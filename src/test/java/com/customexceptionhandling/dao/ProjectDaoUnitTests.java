@@ -0,0 +1,134 @@
+package com.customexceptionhandling.dao;
+
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.dao.impl.ProjectDAO;
+import com.customexceptionhandling.error.restCustomExceptions.ConflictException;
+import com.customexceptionhandling.error.restCustomExceptions.NotFoundException;
+import com.customexceptionhandling.logging.ProjectEventLogger;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.search.ProjectSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectDaoUnitTests {
+    private final ProjectDAO projectDAO = new ProjectDAO(
+            new ProjectEventLogger(LoggerFactory.getLogger(ProjectDaoUnitTests.class)),
+            new ProjectSearchIndex());
+
+    @Test
+    void saveProject_newProject_versionZero() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertEquals(saved, projectDAO.getProjectById(saved.getId()));
+    }
+
+    @Test
+    void updateProject_currentVersion_versionIncremented() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+        saved.setName("Renamed");
+
+        ProjectDto updated = projectDAO.updateProject(saved);
+
+        assertEquals(1L, updated.getVersion());
+        assertEquals("Renamed", projectDAO.getProjectById(saved.getId()).getName());
+    }
+
+    @Test
+    void updateProject_staleVersion_409Conflict() {
+        ProjectDto saved = projectDAO.saveProject(newProject());
+        projectDAO.updateProject(saved);
+
+        ConflictException response = assertThrows(ConflictException.class, () -> projectDAO.updateProject(saved));
+
+        assertEquals(Constants.projectVersionConflictMessage(1L), response.getMessage());
+    }
+
+    @Test
+    void updateProject_unknownProject_404NotFound() {
+        ProjectDto project = newProject();
+        project.setId(UUID.randomUUID());
+        project.setVersion(0L);
+
+        assertThrows(NotFoundException.class, () -> projectDAO.updateProject(project));
+    }
+
+    @Test
+    void searchProjects_updatedAndDeletedProjects_indexKeptCurrent() {
+        ProjectDto first = projectDAO.saveProject(newProject());
+        ProjectDto second = projectDAO.saveProject(newProject());
+
+        first.setName("Exception Handler");
+        projectDAO.updateProject(first);
+        projectDAO.deleteProject(second.getId());
+
+        assertEquals(0, projectDAO.searchProjects("tracker", 10).size());
+        assertEquals(first.getId(), projectDAO.searchProjects("exception tracks", 10).get(0).getId());
+    }
+
+    @Test
+    void deleteProject_unknownProject_404NotFound() {
+        assertThrows(NotFoundException.class, () -> projectDAO.deleteProject(UUID.randomUUID()));
+    }
+
+    @Test
+    void updateProject_concurrentWriters_noLostUpdates() throws InterruptedException {
+        int threads = 8;
+        int updatesPerThread = 200;
+        UUID id = projectDAO.saveProject(newProject()).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                awaitQuietly(start);
+
+                for (int i = 0; i < updatesPerThread; i++) {
+                    while (true) {
+                        try {
+                            projectDAO.updateProject(projectDAO.getProjectById(id));
+                            break;
+                        } catch (ConflictException ex) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals((long) threads * updatesPerThread, projectDAO.getProjectById(id).getVersion());
+    }
+
+    static ProjectDto newProject() {
+        ProjectDto project = new ProjectDto();
+        project.setName("Project Tracker");
+        project.setDescription("Tracks projects.");
+        project.setStartDate(new Date());
+
+        return project;
+    }
+
+    static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.customexceptionhandling.dao;
+
+import com.customexceptionhandling.dao.impl.OffHeapProjectStore;
+import com.customexceptionhandling.model.ProjectDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Loads the same projects into an on-heap HashMap and an OffHeapProjectStore, then reports retained
+ * heap, GC activity during the load and the pause of a full collection with the store live.
+ * Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+public class ProjectStoreHeapBenchmark {
+    private static final int PROJECTS = 1_000_000;
+
+    @Test
+    void load_oneMillionProjects_heapAndGcComparison() {
+        long baseline = usedHeapAfterGc();
+        GcStats before = GcStats.now();
+
+        Map<UUID, ProjectDto> heapStore = new HashMap<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            ProjectDto project = project(i);
+            heapStore.put(project.getId(), project);
+        }
+
+        report("HashMap<UUID, ProjectDto>", baseline, before, heapStore.size(), 0L);
+        heapStore = null;
+
+        baseline = usedHeapAfterGc();
+        before = GcStats.now();
+
+        OffHeapProjectStore offHeapStore = new OffHeapProjectStore(OffHeapProjectStore.DEFAULT_SEGMENT_SIZE, PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            offHeapStore.putIfAbsent(project(i));
+        }
+
+        report("OffHeapProjectStore", baseline, before, offHeapStore.size(), offHeapStore.reservedOffHeapBytes());
+        assertEquals(PROJECTS, offHeapStore.size());
+    }
+
+    private static void report(String label, long baseline, GcStats before, int size, long offHeapBytes) {
+        GcStats load = GcStats.now().minus(before);
+
+        long pauseStart = System.nanoTime();
+        long retained = usedHeapAfterGc() - baseline;
+        long fullGcMillis = (System.nanoTime() - pauseStart) / 1_000_000;
+
+        System.out.printf("%-26s %,d projects: retained heap %,d MB, off-heap %,d MB, load GCs %d (%,d ms), full GC with store live %,d ms%n",
+                label, size, retained >> 20, offHeapBytes >> 20, load.count, load.millis, fullGcMillis);
+    }
+
+    private static ProjectDto project(int i) {
+        ProjectDto project = new ProjectDto();
+        project.setId(UUID.randomUUID());
+        project.setName("Project " + i);
+        project.setDescription("Description of project number " + i + " used by the heap benchmark.");
+        project.setStartDate(new Date(i));
+        project.setCodeLink("https://example.com/projects/" + i);
+        project.setVersion(0L);
+
+        return project;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class GcStats {
+        final long count;
+        final long millis;
+
+        GcStats(long count, long millis) {
+            this.count = count;
+            this.millis = millis;
+        }
+
+        static GcStats now() {
+            long count = 0;
+            long millis = 0;
+
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(gc.getCollectionCount(), 0);
+                millis += Math.max(gc.getCollectionTime(), 0);
+            }
+
+            return new GcStats(count, millis);
+        }
+
+        GcStats minus(GcStats other) {
+            return new GcStats(count - other.count, millis - other.millis);
+        }
+    }
+}
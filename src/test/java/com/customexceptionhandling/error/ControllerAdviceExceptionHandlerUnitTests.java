@@ -0,0 +1,52 @@
+package com.customexceptionhandling.error;
+
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.error.restCustomExceptions.NotFoundException;
+import com.customexceptionhandling.jfr.ExceptionHandledEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ControllerAdviceExceptionHandlerUnitTests {
+    private final ControllerAdviceExceptionHandler handler =
+            new ControllerAdviceExceptionHandler(LoggerFactory.getLogger(ControllerAdviceExceptionHandlerUnitTests.class));
+
+    @Test
+    void handleNotFoundException_recordingEnabled_exceptionHandledEvent() throws IOException {
+        Path file = Files.createTempFile("exception-handled", ".jfr");
+        ResponseEntity<ErrorResponseModel> response;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ExceptionHandledEvent.NAME);
+            recording.start();
+
+            response = handler.handleNotFoundException(new NotFoundException(Constants.PROJECT_NOT_FOUND, null));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ExceptionHandledEvent.NAME))
+                .collect(Collectors.toList());
+        Files.delete(file);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(1, events.size());
+        assertEquals(NotFoundException.class.getName(), events.get(0).getString("exceptionClass"));
+        assertEquals(Constants.PROJECT_NOT_FOUND, events.get(0).getString("message"));
+        assertEquals(404, events.get(0).getInt("statusCode"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.customexceptionhandling.integration;
+
+import com.customexceptionhandling.dao.ProjectDaoI;
+import com.customexceptionhandling.dao.impl.OffHeapProjectDAO;
+import com.customexceptionhandling.model.ProjectDto;
+import com.customexceptionhandling.util.SpringCommandLineProfileResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "project.store=off-heap")
+@ActiveProfiles(resolver = SpringCommandLineProfileResolver.class)
+public class OffHeapProjectStoreIntegrationTests {
+    @Autowired
+    ProjectDaoI projectDAO;
+
+    @Autowired
+    TestRestTemplate testRestTemplate;
+
+    @Test
+    void context_offHeapStoreSelected_offHeapDaoWired() {
+        assertTrue(projectDAO instanceof OffHeapProjectDAO);
+    }
+
+    @Test
+    void createAndGetEndpoints_offHeapStore_projectRoundTrips() {
+        ProjectDto project = new ProjectDto();
+        project.setName("Off Heap Project");
+        project.setDescription("Stored outside the Java heap.");
+        project.setStartDate(new Date());
+
+        ResponseEntity<ProjectDto> created = testRestTemplate.postForEntity("/project", project, ProjectDto.class);
+        ResponseEntity<ProjectDto> fetched = testRestTemplate.getForEntity("/project/" + created.getBody().getId(), ProjectDto.class);
+
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertEquals(HttpStatus.OK, fetched.getStatusCode());
+        assertEquals(created.getBody(), fetched.getBody());
+    }
+}
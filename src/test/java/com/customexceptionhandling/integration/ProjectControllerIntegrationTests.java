@@ -4,17 +4,30 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.customexceptionhandling.constant.Constants;
 import com.customexceptionhandling.error.ErrorResponseModel;
+import com.customexceptionhandling.model.ProjectDto;
 import com.customexceptionhandling.util.SpringCommandLineProfileResolver;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles(resolver = SpringCommandLineProfileResolver.class)
@@ -22,6 +35,9 @@ public class ProjectControllerIntegrationTests {
     @Autowired
     TestRestTemplate testRestTemplate;
 
+    @LocalServerPort
+    int port;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
@@ -109,4 +125,44 @@ public class ProjectControllerIntegrationTests {
         assertEquals(Constants.REST_SERVICE_UNAVAILABLE, errorResponse.getRestErrorMessage());
         assertEquals(Constants.FILE_DOES_NOT_EXIST, errorResponse.getDetailedErrorMessage());
     }
+
+    @Test
+    void searchEndpoint_gzipAccepted_compressedResponse() {
+        for (int i = 0; i < 20; i++) {
+            ProjectDto project = new ProjectDto();
+            project.setName("Compressed Project " + i);
+            project.setDescription("A project with a description long enough to push the search response over the compression threshold.");
+            project.setStartDate(new Date());
+
+            testRestTemplate.postForEntity("/project", project, ProjectDto.class);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        ResponseEntity<byte[]> response = testRestTemplate.exchange("/project/search?q=compressed", HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void successEndpoint_h2cUpgradeRequested_101SwitchingProtocols() throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            socket.setSoTimeout(5_000);
+
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET /project/success HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Connection: Upgrade, HTTP2-Settings\r\n"
+                    + "Upgrade: h2c\r\n"
+                    + "HTTP2-Settings: AAMAAABkAAQCAAAAAAIAAAAA\r\n"
+                    + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+
+            assertTrue(in.readLine().startsWith("HTTP/1.1 101"));
+        }
+    }
 }
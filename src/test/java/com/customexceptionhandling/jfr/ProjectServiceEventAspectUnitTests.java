@@ -0,0 +1,63 @@
+package com.customexceptionhandling.jfr;
+
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.dao.ProjectDaoI;
+import com.customexceptionhandling.error.restCustomExceptions.ConflictException;
+import com.customexceptionhandling.service.ProjectServiceI;
+import com.customexceptionhandling.service.impl.ProjectService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ProjectServiceEventAspectUnitTests {
+    private final ProjectDaoI projectDAO = mock(ProjectDaoI.class);
+
+    @Test
+    void serviceMethod_throws_projectServiceExceptionEventAndSummary() throws IOException {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ProjectService(projectDAO));
+        proxyFactory.addAspect(new ProjectServiceEventAspect());
+        ProjectServiceI projectService = proxyFactory.getProxy();
+
+        when(projectDAO.getProject(true)).thenReturn(Constants.SUCCESS);
+
+        Path file = Files.createTempFile("project-service-exception", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ProjectServiceExceptionEvent.NAME);
+            recording.start();
+
+            assertEquals(Constants.SUCCESS, projectService.succeed());
+            assertThrows(ConflictException.class, projectService::conflict);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ProjectServiceExceptionEvent.NAME))
+                .collect(Collectors.toList());
+        Map<String, JfrRecordingAnalyzer.Summary> summaries = JfrRecordingAnalyzer.summarize(file);
+        Files.delete(file);
+
+        assertEquals(1, events.size());
+        assertEquals("conflict", events.get(0).getString("method"));
+        assertEquals(ConflictException.class.getName(), events.get(0).getString("exceptionClass"));
+        assertEquals(Constants.PROJECT_ALREADY_EXISTS, events.get(0).getString("message"));
+
+        assertEquals(1, summaries.size());
+        assertEquals(1, summaries.get("service " + ConflictException.class.getName()).count);
+    }
+}
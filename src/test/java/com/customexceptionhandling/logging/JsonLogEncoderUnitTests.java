@@ -0,0 +1,64 @@
+package com.customexceptionhandling.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonLogEncoderUnitTests {
+    private final JsonLogEncoder encoder = new JsonLogEncoder();
+
+    @Test
+    void encode_typedFields_validJson() {
+        UUID id = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+        String json = encoder.begin("test")
+                .field("id", id)
+                .field("startDate", new Date(42L))
+                .field("endDate", (Date) null)
+                .field("name", "a \"quoted\"\nname")
+                .end()
+                .toString();
+
+        assertEquals("{\"event\":\"test\",\"id\":\"123e4567-e89b-12d3-a456-426614174000\",\"startDate\":42,"
+                + "\"endDate\":null,\"name\":\"a \\\"quoted\\\"\\nname\"}", json);
+    }
+
+    @Test
+    void encode_longDescription_truncated() {
+        String json = encoder.begin("test")
+                .field("description", "abcdefghij", 4)
+                .end()
+                .toString();
+
+        assertEquals("{\"event\":\"test\",\"description\":\"abcd...\",\"descriptionLength\":10}", json);
+    }
+
+    @Test
+    void encode_reusedEncoder_previousEventCleared() {
+        encoder.begin("first").field("count", 1L).end();
+
+        String json = encoder.begin("second").end().toString();
+
+        assertEquals("{\"event\":\"second\"}", json);
+    }
+
+    @Test
+    void encode_truncationInsideSurrogatePair_wholePairDropped() {
+        String json = encoder.begin("test")
+                .field("description", "ab\uD83D\uDE00cd", 3)
+                .end()
+                .toString();
+
+        assertEquals("{\"event\":\"test\",\"description\":\"ab...\",\"descriptionLength\":6}", json);
+    }
+
+    @Test
+    void toUtf8Bytes_nonAsciiValue_utf8Encoded() {
+        byte[] bytes = encoder.begin("test").field("name", "Pr\u00f8ject").end().toUtf8Bytes();
+
+        assertEquals("{\"event\":\"test\",\"name\":\"Pr\u00f8ject\"}", new String(bytes, java.nio.charset.StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.customexceptionhandling.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.status.Status;
+import com.customexceptionhandling.constant.Constants;
+import com.customexceptionhandling.model.ProjectDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonLoggingEventEncoderUnitTests {
+    private final Logger logger = new LoggerContext().getLogger("test");
+    private final JsonLoggingEventEncoder encoder = new JsonLoggingEventEncoder();
+
+    @Test
+    void encode_projectEvent_typedFieldsWritten() {
+        ProjectDto project = new ProjectDto();
+        project.setId(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        project.setName("Project Tracker");
+        project.setVersion(2L);
+        ProjectLogEvent event = new ProjectLogEvent(Constants.PROJECT_SAVED_OR_UPDATED_EVENT, project);
+
+        LoggingEvent loggingEvent = new LoggingEvent("fqcn", logger, Level.INFO, event.getEvent(), null, null);
+        loggingEvent.setMarker(event);
+
+        String json = encode(loggingEvent);
+
+        assertTrue(json.startsWith("{\"event\":\"" + Constants.PROJECT_SAVED_OR_UPDATED_EVENT + "\",\"timestamp\":"));
+        assertTrue(json.contains("\"level\":\"INFO\",\"logger\":\"test\""));
+        assertTrue(json.contains("\"id\":\"123e4567-e89b-12d3-a456-426614174000\",\"name\":\"Project Tracker\""));
+        assertTrue(json.endsWith("\"version\":2}\n"));
+    }
+
+    @Test
+    void encode_plainMessage_messageFieldWritten() {
+        String json = encode(new LoggingEvent("fqcn", logger, Level.WARN, "disk at {}%", null, new Object[] { 90 }));
+
+        assertTrue(json.startsWith("{\"event\":\"log\""));
+        assertTrue(json.endsWith("\"message\":\"disk at 90%\"}\n"));
+    }
+
+    @Test
+    void encode_throwable_stackTraceWithCausesWritten() {
+        IllegalStateException cause = new IllegalStateException("store closed");
+        RuntimeException failure = new RuntimeException("save failed", cause);
+
+        String json = encode(new LoggingEvent("fqcn", logger, Level.ERROR, "save failed", failure, null));
+
+        assertTrue(json.contains("\"exceptionClass\":\"java.lang.RuntimeException\",\"exceptionMessage\":\"save failed\""));
+        assertTrue(json.contains("\"stackTrace\":\"java.lang.RuntimeException: save failed"));
+        assertTrue(json.contains("\\tat " + getClass().getName() + ".encode_throwable_stackTraceWithCausesWritten"));
+        assertTrue(json.contains("Caused by: java.lang.IllegalStateException: store closed"));
+        assertTrue(json.endsWith("\"}\n"));
+    }
+
+    @Test
+    void consoleAppender_projectEvent_neverRenderedAsString() {
+        ProjectDto project = new ProjectDto();
+        project.setName("Project Tracker");
+        ProjectLogEvent event = new ProjectLogEvent(Constants.PROJECT_SAVED_OR_UPDATED_EVENT, project) {
+            @Override
+            public String toString() {
+                throw new AssertionError("project event rendered as a string");
+            }
+        };
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream systemOut = System.out;
+        ConsoleAppender<ILoggingEvent> appender = new ConsoleAppender<>();
+        appender.setContext(logger.getLoggerContext());
+        appender.setEncoder(encoder);
+        encoder.setContext(logger.getLoggerContext());
+        encoder.start();
+
+        System.setOut(new PrintStream(console, true));
+        try {
+            appender.start();
+            logger.addAppender(appender);
+            logger.info(event, Constants.PROJECT_SAVED_OR_UPDATED_EVENT);
+        } finally {
+            logger.detachAppender(appender);
+            appender.stop();
+            System.setOut(systemOut);
+        }
+
+        String json = new String(console.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("{\"event\":\"" + Constants.PROJECT_SAVED_OR_UPDATED_EVENT + "\""));
+        assertTrue(json.contains("\"name\":\"Project Tracker\""));
+        assertTrue(logger.getLoggerContext().getStatusManager().getCopyOfStatusList().stream()
+                .noneMatch(status -> status.getLevel() >= Status.WARN));
+    }
+
+    private String encode(LoggingEvent event) {
+        return new String(encoder.encode(event), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package com.customexceptionhandling.logging;
+
+import com.customexceptionhandling.model.ProjectDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+import static com.customexceptionhandling.constant.Constants.PROJECT_SAVED_OR_UPDATED_EVENT;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectEventLoggerUnitTests {
+    private final Logger logger = mock(Logger.class);
+    private final ProjectDto project = mock(ProjectDto.class);
+
+    private final ProjectEventLogger projectEventLogger = new ProjectEventLogger(logger);
+
+    @Test
+    void logSaveOrUpdate_infoDisabled_nothingEncoded() {
+        when(logger.isInfoEnabled()).thenReturn(false);
+
+        projectEventLogger.logSaveOrUpdate(project);
+
+        verify(logger).isInfoEnabled();
+        verifyNoMoreInteractions(logger);
+        verifyZeroInteractions(project);
+    }
+
+    @Test
+    void logSaveOrUpdate_infoEnabled_projectPassedUnrendered() {
+        when(logger.isInfoEnabled()).thenReturn(true);
+
+        projectEventLogger.logSaveOrUpdate(project);
+
+        verify(logger).info(any(ProjectLogEvent.class), eq(PROJECT_SAVED_OR_UPDATED_EVENT));
+        verifyZeroInteractions(project);
+    }
+}
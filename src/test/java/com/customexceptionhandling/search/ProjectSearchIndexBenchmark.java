@@ -0,0 +1,98 @@
+package com.customexceptionhandling.search;
+
+import com.customexceptionhandling.model.ProjectDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Builds the index over 1M synthetic projects, times updates through refresh (enough of them to
+ * trigger compaction) and then times exact, prefix and AND queries.
+ * Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+public class ProjectSearchIndexBenchmark {
+    private static final int PROJECTS = 1_000_000;
+    private static final int QUERIES = 1_000;
+    private static final int UPDATES = 2_000_000;
+    private static final String[] WORDS = {
+            "tracker", "exception", "handler", "service", "gateway", "billing", "search", "report",
+            "inventory", "customer", "order", "payment", "analytics", "export", "import", "portal"
+    };
+
+    @Test
+    void refreshAndSearch_oneMillionProjects_latency() {
+        Random random = new Random(42);
+        List<ProjectDto> projects = new ArrayList<>(PROJECTS);
+
+        for (int i = 0; i < PROJECTS; i++) {
+            ProjectDto project = new ProjectDto();
+            project.setId(UUID.randomUUID());
+            project.setName(word(random) + " " + word(random) + " " + i);
+            project.setDescription("The " + word(random) + " for " + word(random) + " and " + word(random) + ".");
+            projects.add(project);
+        }
+
+        ProjectSearchIndex index = new ProjectSearchIndex();
+
+        long start = System.nanoTime();
+        index.rebuild(projects);
+        System.out.printf("rebuild: %,d projects in %,d ms%n", PROJECTS, (System.nanoTime() - start) / 1_000_000);
+
+        assertEquals(PROJECTS, index.size());
+
+        timeUpdates(index, projects, random);
+
+        time(index, "exact", "tracker");
+        time(index, "prefix", "pay*");
+        time(index, "and", "tracker billing");
+        time(index, "prefix and", "exc* port*");
+    }
+
+    private static void timeUpdates(ProjectSearchIndex index, List<ProjectDto> projects, Random random) {
+        Map<UUID, ProjectDto> store = new HashMap<>();
+        for (ProjectDto project : projects) {
+            store.put(project.getId(), project);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            ProjectDto project = projects.get(random.nextInt(PROJECTS));
+            project.setDescription("The " + word(random) + " for " + word(random) + " and " + word(random) + ".");
+            index.refresh(project.getId(), store::get);
+        }
+
+        System.out.printf("refresh: %,d updates at %,d ns/update (compactions included)%n",
+                UPDATES, (System.nanoTime() - start) / UPDATES);
+
+        assertEquals(PROJECTS, index.size());
+    }
+
+    private static void time(ProjectSearchIndex index, String label, String query) {
+        for (int i = 0; i < QUERIES / 10; i++) {
+            index.search(query, 20);
+        }
+
+        long start = System.nanoTime();
+        List<UUID> results = null;
+        for (int i = 0; i < QUERIES; i++) {
+            results = index.search(query, 20);
+        }
+
+        System.out.printf("%-10s %-20s %,8d us/query%n", label, query, (System.nanoTime() - start) / QUERIES / 1_000);
+        assertFalse(results.isEmpty());
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,118 @@
+package com.customexceptionhandling.search;
+
+import com.customexceptionhandling.model.ProjectDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectSearchIndexUnitTests {
+    private final ProjectSearchIndex index = new ProjectSearchIndex();
+    private final Map<UUID, ProjectDto> store = new HashMap<>();
+
+    @Test
+    void search_exactAndPrefixTerms_matchingProjects() {
+        UUID tracker = save("Project Tracker", "Tracks projects.");
+        save("Exception Handler", "Handles custom exceptions.");
+        UUID trackerTwo = save("Tracker Two", "Another tracking app.");
+
+        assertEquals(Arrays.asList(trackerTwo, tracker), index.search("tracker", 10));
+        assertEquals(Arrays.asList(trackerTwo, tracker), index.search("TRACK*", 10));
+        assertEquals(Collections.singletonList(trackerTwo), index.search("track* app", 10));
+        assertEquals(Collections.emptyList(), index.search("tracker exception", 10));
+    }
+
+    @Test
+    void search_prefixAcrossManyTokens_mergedWithoutRetiredOrDuplicateDocs() {
+        UUID first = save("Port portal", "Ported ports.");
+        UUID second = save("Portable", "Porting.");
+        UUID renamed = save("Portfolio", "Reports.");
+
+        store.get(renamed).setName("Renamed");
+        store.get(renamed).setDescription("Nothing left.");
+        index.refresh(renamed, store::get);
+
+        assertEquals(Arrays.asList(second, first), index.search("port*", 10));
+        assertEquals(Collections.singletonList(second), index.search("port* portab*", 10));
+    }
+
+    @Test
+    void search_prefixShorterThanMinimum_illegalArgumentException() {
+        save("Project Tracker", "Tracks projects.");
+
+        assertTrue(ProjectSearchIndex.hasShortPrefixTerm("tracker pr*"));
+        assertFalse(ProjectSearchIndex.hasShortPrefixTerm("tracker pro*"));
+        assertThrows(IllegalArgumentException.class, () -> index.search("pr*", 10));
+    }
+
+    @Test
+    void search_limit_newestFirst() {
+        save("Alpha", "shared");
+        save("Beta", "shared");
+        UUID newest = save("Gamma", "shared");
+
+        assertEquals(Collections.singletonList(newest), index.search("shared", 1));
+    }
+
+    @Test
+    void refresh_updatedAndDeletedProjects_oldTokensRemoved() {
+        UUID id = save("Old Name", "Description");
+
+        store.get(id).setName("New Name");
+        index.refresh(id, store::get);
+
+        assertEquals(Collections.emptyList(), index.search("old", 10));
+        assertEquals(Collections.singletonList(id), index.search("new", 10));
+
+        store.remove(id);
+        index.refresh(id, store::get);
+
+        assertEquals(Collections.emptyList(), index.search("new", 10));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void refresh_manyRewrites_compactedAndStillSearchable() {
+        UUID stable = save("Stable", "Never rewritten.");
+        UUID rewritten = save("Rewritten", "Version 0.");
+
+        for (int i = 1; i <= 5_000; i++) {
+            store.get(rewritten).setDescription("Version " + i + ".");
+            index.refresh(rewritten, store::get);
+        }
+
+        assertEquals(2, index.size());
+        assertEquals(Collections.singletonList(stable), index.search("stable", 10));
+        assertEquals(Collections.singletonList(rewritten), index.search("5000", 10));
+        assertEquals(Collections.emptyList(), index.search("4999", 10));
+        assertEquals(Arrays.asList(rewritten, stable), index.search("rewrit*", 10));
+    }
+
+    @Test
+    void rebuild_existingStore_allProjectsSearchable() {
+        UUID id = UUID.randomUUID();
+        store.put(id, project(id, "Rebuilt", "From the store."));
+
+        index.rebuild(store.values());
+
+        assertEquals(Collections.singletonList(id), index.search("rebuilt store", 10));
+    }
+
+    private UUID save(String name, String description) {
+        UUID id = UUID.randomUUID();
+        store.put(id, project(id, name, description));
+        index.refresh(id, store::get);
+
+        return id;
+    }
+
+    private static ProjectDto project(UUID id, String name, String description) {
+        ProjectDto project = new ProjectDto();
+        project.setId(id);
+        project.setName(name);
+        project.setDescription(description);
+
+        return project;
+    }
+}
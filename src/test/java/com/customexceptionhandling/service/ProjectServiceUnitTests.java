@@ -3,11 +3,17 @@ package com.customexceptionhandling.service;
 import com.customexceptionhandling.constant.Constants;
 import com.customexceptionhandling.dao.impl.ProjectDAO;
 import com.customexceptionhandling.error.restCustomExceptions.BadRequestException;
+import com.customexceptionhandling.model.ProjectDto;
 import com.customexceptionhandling.service.impl.ProjectService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -43,4 +49,165 @@ public class ProjectServiceUnitTests {
         assertNotNull(response);
         assertEquals(Constants.REST_BAD_REQUEST, response.getMessage());
     }
+
+    @Test
+    void getProject_validInput_200Okay() {
+        ProjectDto project = validProject();
+        project.setId(UUID.randomUUID());
+
+        when(projectDAO.getProjectById(project.getId())).thenReturn(project);
+
+        ProjectDto response = projectService.getProject(project.getId().toString());
+
+        verify(projectDAO).getProjectById(project.getId());
+
+        assertEquals(project, response);
+    }
+
+    @Test
+    void getProject_malformedId_400BadRequest() {
+        BadRequestException response = assertThrows(BadRequestException.class, () -> projectService.getProject("not-a-uuid"));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.INVALID_ID_SENT_IN_PATH, response.getMessage());
+    }
+
+    @Test
+    void createProject_validInput_201Created() {
+        ProjectDto project = validProject();
+
+        when(projectDAO.saveProject(project)).thenReturn(project);
+
+        ProjectDto response = projectService.createProject(project);
+
+        verify(projectDAO).saveProject(project);
+
+        assertEquals(project, response);
+    }
+
+    @Test
+    void createProject_blankNameAndDescription_400BadRequest() {
+        ProjectDto project = validProject();
+        project.setName(" ");
+        project.setDescription(null);
+
+        BadRequestException response = assertThrows(BadRequestException.class, () -> projectService.createProject(project));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.PROJECT_MUST_HAVE_NAME + Constants.PROJECT_MUST_HAVE_DESCRIPTION, response.getMessage());
+    }
+
+    @Test
+    void updateProject_validInput_idTakenFromPath() {
+        UUID id = UUID.randomUUID();
+        ProjectDto project = validProject();
+        project.setVersion(3L);
+
+        when(projectDAO.updateProject(project)).thenReturn(project);
+
+        projectService.updateProject(id.toString(), project);
+
+        verify(projectDAO).updateProject(project);
+
+        assertEquals(id, project.getId());
+    }
+
+    @Test
+    void updateProject_bodyIdDoesNotMatchPath_400BadRequest() {
+        ProjectDto project = validProject();
+        project.setId(UUID.randomUUID());
+        project.setVersion(0L);
+
+        BadRequestException response = assertThrows(BadRequestException.class,
+                () -> projectService.updateProject(UUID.randomUUID().toString(), project));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.INVALID_PROJECT_ID_SENT_IN_BODY, response.getMessage());
+    }
+
+    @Test
+    void updateProject_missingVersion_400BadRequest() {
+        ProjectDto project = validProject();
+
+        BadRequestException response = assertThrows(BadRequestException.class,
+                () -> projectService.updateProject(UUID.randomUUID().toString(), project));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.PROJECT_MUST_HAVE_VERSION, response.getMessage());
+    }
+
+    @Test
+    void updateProject_malformedId_400BadRequest() {
+        ProjectDto project = validProject();
+        project.setVersion(0L);
+
+        BadRequestException response = assertThrows(BadRequestException.class,
+                () -> projectService.updateProject("not-a-uuid", project));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.INVALID_ID_SENT_IN_PATH, response.getMessage());
+    }
+
+    @Test
+    void searchProjects_validInput_delegatesToDao() {
+        List<ProjectDto> projects = Collections.singletonList(validProject());
+
+        when(projectDAO.searchProjects("tracker", Constants.DEFAULT_SEARCH_LIMIT)).thenReturn(projects);
+
+        List<ProjectDto> response = projectService.searchProjects("tracker", Constants.DEFAULT_SEARCH_LIMIT);
+
+        verify(projectDAO).searchProjects("tracker", Constants.DEFAULT_SEARCH_LIMIT);
+
+        assertEquals(projects, response);
+    }
+
+    @Test
+    void searchProjects_blankQuery_400BadRequest() {
+        BadRequestException missing = assertThrows(BadRequestException.class,
+                () -> projectService.searchProjects(null, Constants.DEFAULT_SEARCH_LIMIT));
+        BadRequestException blank = assertThrows(BadRequestException.class,
+                () -> projectService.searchProjects("  ", Constants.DEFAULT_SEARCH_LIMIT));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.SEARCH_QUERY_REQUIRED, missing.getMessage());
+        assertEquals(Constants.SEARCH_QUERY_REQUIRED, blank.getMessage());
+    }
+
+    @Test
+    void searchProjects_limitOutOfBounds_400BadRequest() {
+        BadRequestException tooSmall = assertThrows(BadRequestException.class,
+                () -> projectService.searchProjects("tracker", 0));
+        BadRequestException tooLarge = assertThrows(BadRequestException.class,
+                () -> projectService.searchProjects("tracker", Constants.MAX_SEARCH_LIMIT + 1));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.INVALID_SEARCH_LIMIT, tooSmall.getMessage());
+        assertEquals(Constants.INVALID_SEARCH_LIMIT, tooLarge.getMessage());
+    }
+
+    @Test
+    void searchProjects_prefixShorterThanMinimum_400BadRequest() {
+        BadRequestException response = assertThrows(BadRequestException.class,
+                () -> projectService.searchProjects("tracker pr*", Constants.DEFAULT_SEARCH_LIMIT));
+
+        verifyZeroInteractions(projectDAO);
+
+        assertEquals(Constants.SEARCH_PREFIX_TOO_SHORT, response.getMessage());
+    }
+
+    private static ProjectDto validProject() {
+        ProjectDto project = new ProjectDto();
+        project.setName("Project Tracker");
+        project.setDescription("Tracks projects.");
+        project.setStartDate(new Date());
+
+        return project;
+    }
 }